@@ -263,14 +263,26 @@ public class Main {
         LOG.info("locations                    : Classpath locations to scan recursively for migrations");
         LOG.info("resolvers                    : Comma-separated list of custom MigrationResolvers");
         LOG.info("skipDefaultResolvers         : Skips default resolvers (jdbc, sql and Spring-jdbc)");
+        LOG.info("checksumCacheDirectory       : Directory in which to cache the checksums of SQL migrations");
+        LOG.info("resolveThreads               : Number of threads to use for resolving SQL migrations");
         LOG.info("sqlMigrationPrefix           : File name prefix for versioned SQL migrations");
         LOG.info("undoSqlMigrationPrefix       : [" + "pro] File name prefix for undo SQL migrations");
         LOG.info("repeatableSqlMigrationPrefix : File name prefix for repeatable SQL migrations");
+        LOG.info("csvMigrationPrefix           : File name prefix for CSV migrations");
         LOG.info("sqlMigrationSeparator        : File name separator for SQL migrations");
         LOG.info("sqlMigrationSuffixes         : Comma-separated list of file name suffixes for SQL migrations");
         LOG.info("stream                       : [" + "pro] Stream SQL migrations when executing them");
-        LOG.info("batch                        : [" + "pro] Batch SQL statements when executing them");
+        LOG.info("batch                        : Batch SQL statements when executing them");
+        LOG.info("batchSize                    : Maximum number of SQL statements per batch");
+        LOG.info("rewriteInserts               : Combine INSERT statements with literal values");
+        LOG.info("reuseStatements              : Reuse a single JDBC statement per SQL migration");
+        LOG.info("chunkSize                    : Maximum number of SQL statements per round trip");
+        LOG.info("slowStatements               : Number of slowest SQL statements to report after migrating");
+        LOG.info("checkpointInterval           : Statements per resumable checkpoint of non-transactional migrations");
+        LOG.info("lockTimeout                  : Milliseconds each SQL statement may wait for a lock");
+        LOG.info("lockTimeoutRetries           : Number of retries after giving up waiting for a lock");
         LOG.info("mixed                        : Allow mixing transactional and non-transactional statements");
+        LOG.info("prepareAhead                 : Number of SQL migrations to prepare ahead in the background");
         LOG.info("encoding                     : Encoding of SQL migrations");
         LOG.info("placeholderReplacement       : Whether placeholders should be replaced");
         LOG.info("placeholders                 : Placeholders to replace in sql migrations");
@@ -140,6 +140,9 @@ public class Flyway {
 
 
             ) {
+                // Only the state of the applied migrations is needed, and none of them is handed out afterwards
+                schemaHistory.useSummaryProjection();
+
                 if (configuration.isValidateOnMigrate()) {
                     doValidate(database, migrationResolver, schemaHistory, schemas, callbackExecutor,
                             true // Always ignore pending migrations when validating before migrating
@@ -232,6 +235,7 @@ public class Flyway {
 
 
             ) {
+                schemaHistory.useSummaryProjection();
                 doValidate(database, migrationResolver, schemaHistory, schemas, callbackExecutor,
                         configuration.isIgnorePendingMigrations());
                 return null;
@@ -363,23 +367,20 @@ public class Flyway {
      * @param resourceProvider           The resource provider.
      * @param classProvider              The class provider.
      * @param sqlScriptFactory The SQL statement builder factory.
+     * @param callbackExecutor The callback executor.
      * @return A new, fully configured, MigrationResolver instance.
      */
     private MigrationResolver createMigrationResolver(Database database,
                                                       ResourceProvider resourceProvider,
                                                       ClassProvider classProvider,
-                                                      SqlScriptFactory sqlScriptFactory
-
-
-
+                                                      SqlScriptFactory sqlScriptFactory,
+                                                      CallbackExecutor callbackExecutor
     ) {
         return new CompositeMigrationResolver(database,
                 resourceProvider, classProvider, configuration,
-                sqlScriptFactory
-
-
-
-                , configuration.getResolvers());
+                sqlScriptFactory,
+                callbackExecutor,
+                configuration.getResolvers());
     }
 
     /**
@@ -451,10 +452,7 @@ public class Flyway {
                     ));
 
             result = command.execute(
-                    createMigrationResolver(database, resourceProvider, classProvider, database
-
-
-
+                    createMigrationResolver(database, resourceProvider, classProvider, database, callbackExecutor
                     ),
                     SchemaHistoryFactory.getSchemaHistory(configuration, database, schemas[0]
 
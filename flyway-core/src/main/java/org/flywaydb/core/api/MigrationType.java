@@ -39,6 +39,11 @@ public enum MigrationType {
      */
     UNDO_SQL(false, true),
 
+    /**
+     * CSV migrations loading data into a table.
+     */
+    CSV(false, false),
+
     /**
      * JDBC Java-based migrations.
      */
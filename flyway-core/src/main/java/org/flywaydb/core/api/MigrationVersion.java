@@ -16,9 +16,9 @@
 package org.flywaydb.core.api;
 
 import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A version of a migration.
@@ -42,14 +42,33 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
     public static final MigrationVersion CURRENT = new MigrationVersion(BigInteger.valueOf(-2), "<< Current Version >>");
 
     /**
-     * Compiled pattern for matching proper version format
+     * The maximum number of versions kept in the intern cache. Versions created once it is full are simply not cached.
      */
-    private static Pattern splitPattern = Pattern.compile("\\.(?=\\d)");
+    private static final int MAX_INTERNED_VERSIONS = 16384;
 
     /**
-     * The individual parts this version string is composed of. Ex. 1.2.3.4.0 -> [1, 2, 3, 4, 0]
+     * The versions created so far by their normalized version string, so the same version read from the schema history
+     * table and resolved from a migration share a single instance.
      */
-    private final List<BigInteger> versionParts;
+    private static final ConcurrentMap<String, MigrationVersion> INTERNED_VERSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The individual parts this version string is composed of, without trailing zeros. Ex. 1.2.3.4.0 -> [1, 2, 3, 4]
+     * <p>{@code null} if any of the parts doesn't fit in a long, in which case {@code bigVersionParts} is used
+     * instead.</p>
+     */
+    private final long[] versionParts;
+
+    /**
+     * The individual parts this version string is composed of if any of them doesn't fit in a long, or {@code null}
+     * otherwise.
+     */
+    private final BigInteger[] bigVersionParts;
+
+    /**
+     * The hash code, the same as the one of the list of parts as BigIntegers.
+     */
+    private final int hashCode;
 
     /**
      * The printable text to represent the version.
@@ -68,18 +87,69 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if ("current".equalsIgnoreCase(version)) return CURRENT;
         if (LATEST.getVersion().equals(version)) return LATEST;
         if (version == null) return EMPTY;
-        return new MigrationVersion(version);
+
+        String normalizedVersion = version.replace('_', '.');
+        MigrationVersion migrationVersion = INTERNED_VERSIONS.get(normalizedVersion);
+        if (migrationVersion == null) {
+            migrationVersion = new MigrationVersion(normalizedVersion);
+            if (INTERNED_VERSIONS.size() < MAX_INTERNED_VERSIONS) {
+                MigrationVersion interned = INTERNED_VERSIONS.putIfAbsent(normalizedVersion, migrationVersion);
+                if (interned != null) {
+                    migrationVersion = interned;
+                }
+            }
+        }
+        return migrationVersion;
     }
 
     /**
      * Creates a Version using this version string.
      *
-     * @param version The version in one of the following formats: 6, 6.0, 005, 1.2.3.4, 201004200021. <br/>{@code null}
-     *                means that this version refers to an empty schema.
+     * @param normalizedVersion The version in one of the following formats: 6, 6.0, 005, 1.2.3.4, 201004200021, with
+     *                          underscores already replaced by dots.
      */
-    private MigrationVersion(String version) {
-        String normalizedVersion = version.replace('_', '.');
-        this.versionParts = tokenize(normalizedVersion);
+    private MigrationVersion(String normalizedVersion) {
+        String[] parts = split(normalizedVersion);
+        long[] versionParts = new long[parts.length];
+        BigInteger[] bigVersionParts = null;
+        try {
+            for (int i = 0; i < parts.length; i++) {
+                if (bigVersionParts == null) {
+                    try {
+                        versionParts[i] = Long.parseLong(parts[i]);
+                        continue;
+                    } catch (NumberFormatException e) {
+                        // Either too large for a long or not a number at all
+                        bigVersionParts = new BigInteger[parts.length];
+                        for (int j = 0; j < i; j++) {
+                            bigVersionParts[j] = BigInteger.valueOf(versionParts[j]);
+                        }
+                    }
+                }
+                bigVersionParts[i] = new BigInteger(parts[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new FlywayException(
+                    "Invalid version containing non-numeric characters. Only 0..9 and . are allowed. Invalid version: "
+                            + normalizedVersion);
+        }
+
+        int length = parts.length;
+        if (bigVersionParts == null) {
+            while (length > 1 && versionParts[length - 1] == 0) {
+                length--;
+            }
+            this.versionParts = Arrays.copyOf(versionParts, length);
+            this.bigVersionParts = null;
+            this.hashCode = hashCode(this.versionParts);
+        } else {
+            while (length > 1 && bigVersionParts[length - 1].signum() == 0) {
+                length--;
+            }
+            this.versionParts = null;
+            this.bigVersionParts = Arrays.copyOf(bigVersionParts, length);
+            this.hashCode = Arrays.hashCode(this.bigVersionParts);
+        }
         this.displayText = normalizedVersion;
     }
 
@@ -91,8 +161,9 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @param displayText The alternative text to display instead of the version number.
      */
     private MigrationVersion(BigInteger version, String displayText) {
-        this.versionParts = new ArrayList<>();
-        this.versionParts.add(version);
+        this.versionParts = null;
+        this.bigVersionParts = new BigInteger[]{version};
+        this.hashCode = Arrays.hashCode(this.bigVersionParts);
         this.displayText = displayText;
     }
 
@@ -125,7 +196,7 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
 
     @Override
     public int hashCode() {
-        return versionParts == null ? 0 : versionParts.hashCode();
+        return hashCode;
     }
 
     /**
@@ -162,24 +233,24 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
      * @return The major version.
      */
     public BigInteger getMajor() {
-        return versionParts.get(0);
+        return getPart(0);
     }
 
     /**
      * @return The major version as a string.
      */
     public String getMajorAsString() {
-        return versionParts.get(0).toString();
+        return getPart(0).toString();
     }
 
     /**
      * @return The minor version as a string.
      */
     public String getMinorAsString() {
-        if (versionParts.size() == 1) {
+        if (getPartCount() == 1) {
             return "0";
         }
-        return versionParts.get(1).toString();
+        return getPart(1).toString();
     }
 
     @SuppressWarnings("NullableProblems")
@@ -188,16 +259,20 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
             return 1;
         }
 
+        if (this == o) {
+            return 0;
+        }
+
         if (this == EMPTY) {
-            return o == EMPTY ? 0 : Integer.MIN_VALUE;
+            return Integer.MIN_VALUE;
         }
 
         if (this == CURRENT) {
-            return o == CURRENT ? 0 : Integer.MIN_VALUE;
+            return Integer.MIN_VALUE;
         }
 
         if (this == LATEST) {
-            return o == LATEST ? 0 : Integer.MAX_VALUE;
+            return Integer.MAX_VALUE;
         }
 
         if (o == EMPTY) {
@@ -211,11 +286,25 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         if (o == LATEST) {
             return Integer.MIN_VALUE;
         }
-        final List<BigInteger> parts1 = versionParts;
-        final List<BigInteger> parts2 = o.versionParts;
-        int largestNumberOfParts = Math.max(parts1.size(), parts2.size());
+
+        if (versionParts != null && o.versionParts != null) {
+            final long[] parts1 = versionParts;
+            final long[] parts2 = o.versionParts;
+            int largestNumberOfParts = Math.max(parts1.length, parts2.length);
+            for (int i = 0; i < largestNumberOfParts; i++) {
+                final int compared = Long.compare(
+                        i < parts1.length ? parts1[i] : 0,
+                        i < parts2.length ? parts2[i] : 0);
+                if (compared != 0) {
+                    return compared;
+                }
+            }
+            return 0;
+        }
+
+        int largestNumberOfParts = Math.max(getPartCount(), o.getPartCount());
         for (int i = 0; i < largestNumberOfParts; i++) {
-            final int compared = getOrZero(parts1, i).compareTo(getOrZero(parts2, i));
+            final int compared = getOrZero(i).compareTo(o.getOrZero(i));
             if (compared != 0) {
                 return compared;
             }
@@ -223,33 +312,57 @@ public final class MigrationVersion implements Comparable<MigrationVersion> {
         return 0;
     }
 
-    private BigInteger getOrZero(List<BigInteger> elements, int i) {
-        return i < elements.size() ? elements.get(i) : BigInteger.ZERO;
+    private int getPartCount() {
+        return versionParts != null ? versionParts.length : bigVersionParts.length;
+    }
+
+    private BigInteger getPart(int i) {
+        return versionParts != null ? BigInteger.valueOf(versionParts[i]) : bigVersionParts[i];
+    }
+
+    private BigInteger getOrZero(int i) {
+        return i < getPartCount() ? getPart(i) : BigInteger.ZERO;
     }
 
     /**
-     * Splits this string into list of Long
+     * Splits this string at every dot followed by a digit.
      *
      * @param str The string to split.
-     * @return The resulting array.
+     * @return The resulting parts.
      */
-    private List<BigInteger> tokenize(String str) {
-        List<BigInteger> parts = new ArrayList<>();
-        try {
-            for (String part : splitPattern.split(str)) {
-                parts.add(new BigInteger(part));
+    private static String[] split(String str) {
+        int count = 1;
+        for (int i = 0; i < str.length() - 1; i++) {
+            if (isSplit(str, i)) {
+                count++;
             }
-        } catch (NumberFormatException e) {
-            throw new FlywayException(
-                    "Invalid version containing non-numeric characters. Only 0..9 and . are allowed. Invalid version: "
-                            + str);
         }
-        for (int i = parts.size() - 1; i > 0; i--) {
-            if (!parts.get(i).equals(BigInteger.ZERO)) {
-                break;
+        String[] parts = new String[count];
+        int part = 0;
+        int start = 0;
+        for (int i = 0; i < str.length() - 1; i++) {
+            if (isSplit(str, i)) {
+                parts[part++] = str.substring(start, i);
+                start = i + 1;
             }
-            parts.remove(i);
         }
+        parts[part] = str.substring(start);
         return parts;
     }
-}
\ No newline at end of file
+
+    private static boolean isSplit(String str, int i) {
+        char next = str.charAt(i + 1);
+        return str.charAt(i) == '.' && next >= '0' && next <= '9';
+    }
+
+    /**
+     * Computes the same hash code as the one of the list of these parts as BigIntegers.
+     */
+    private static int hashCode(long[] parts) {
+        int hashCode = 1;
+        for (long part : parts) {
+            hashCode = 31 * hashCode + BigInteger.valueOf(part).hashCode();
+        }
+        return hashCode;
+    }
+}
@@ -45,7 +45,6 @@ public interface Context {
     /**
      * @return The info about the statement being handled. Only relevant for the statement-level events.
      * {@code null} in all other cases.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      */
     Statement getStatement();
 }
\ No newline at end of file
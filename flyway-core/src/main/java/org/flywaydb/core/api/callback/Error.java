@@ -17,7 +17,6 @@ package org.flywaydb.core.api.callback;
 
 /**
  * An error that occurred while executing a statement.
- * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
  */
 public interface Error {
     /**
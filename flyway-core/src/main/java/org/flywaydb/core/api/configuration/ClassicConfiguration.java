@@ -100,6 +100,21 @@ public class ClassicConfiguration implements Configuration {
      */
     private Charset encoding = StandardCharsets.UTF_8;
 
+    /**
+     * The directory in which to cache the checksums of SQL migrations between runs. (default: {@code null} for no cache)
+     */
+    private String checksumCacheDirectory;
+
+    /**
+     * The number of threads to use for resolving SQL migrations. (default: 1)
+     */
+    private int resolveThreads = 1;
+
+    /**
+     * The number of pending SQL migrations to prepare ahead on a background thread. (default: 0)
+     */
+    private int prepareAhead;
+
     /**
      * The schemas managed by Flyway. These schema names are case-sensitive.
      * <p>Consequences:</p>
@@ -182,6 +197,13 @@ public class ClassicConfiguration implements Configuration {
      */
     private String repeatableSqlMigrationPrefix = "R";
 
+    /**
+     * The file name prefix for CSV migrations. (default: D)
+     * <p>CSV migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTION.csv ,
+     * which using the defaults translates to D1_1__My_table.csv</p>
+     */
+    private String csvMigrationPrefix = "D";
+
     /**
      * The file name separator for sql migrations. (default: __)
      * <p>
@@ -352,6 +374,73 @@ public class ClassicConfiguration implements Configuration {
      */
     private boolean group;
 
+    /**
+     * Whether to stream SQL migrations when executing them.
+     * <p>
+     * {@code true} to stream SQL migrations. {@code false} to fully load them in memory instead. (default: {@code false})
+     */
+    private boolean stream;
+
+    /**
+     * Whether to batch SQL statements when executing them.
+     * <p>
+     * {@code true} to batch SQL statements. {@code false} to execute them individually instead. (default: {@code false})
+     */
+    private boolean batch;
+
+    /**
+     * The maximum number of statements to send to the database at once when batching SQL statements. (default: 100)
+     */
+    private int batchSize = 100;
+
+    /**
+     * Whether to rewrite runs of INSERT statements with only literal values into fewer statements.
+     * <p>
+     * {@code true} to rewrite INSERT statements. {@code false} to execute them as they are. (default: {@code false})
+     */
+    private boolean rewriteInserts;
+
+    /**
+     * Whether to reuse a single JDBC statement for all SQL statements of a migration executed one by one.
+     * <p>
+     * {@code true} to reuse a single statement. {@code false} to create a new one for each SQL statement. (default: {@code false})
+     */
+    private boolean reuseStatements;
+
+    /**
+     * The maximum number of SQL statements to send to the database in a single round trip, or 0 to disable chunking.
+     * (default: 0)
+     */
+    private int chunkSize;
+
+    /**
+     * The number of slowest SQL statements to report after migrating, or 0 to disable the report. (default: 0)
+     */
+    private int slowStatements;
+
+    /**
+     * The number of statements after which a non-transactional SQL migration commits and records a checkpoint, or 0 to
+     * disable checkpoints. (default: 0)
+     */
+    private int checkpointInterval;
+
+    /**
+     * The number of milliseconds each SQL statement of a migration may wait for a lock, or 0 to wait as long as the
+     * database does by default. (default: 0)
+     */
+    private int lockTimeout;
+
+    /**
+     * The number of times a SQL statement or migration which gave up waiting for a lock is retried. (default: 0)
+     */
+    private int lockTimeoutRetries;
+
+    /**
+     * Whether the applied migrations read from the schema history table are cached for all Flyway instances in this
+     * process using the same data source and table. (default: {@code false})
+     */
+    private boolean shareSchemaHistoryCache;
+
     /**
      * The username that will be recorded in the schema history table as having applied the migration.
      * <p>
@@ -460,6 +549,21 @@ public class ClassicConfiguration implements Configuration {
         return encoding;
     }
 
+    @Override
+    public String getChecksumCacheDirectory() {
+        return checksumCacheDirectory;
+    }
+
+    @Override
+    public int getResolveThreads() {
+        return resolveThreads;
+    }
+
+    @Override
+    public int getPrepareAhead() {
+        return prepareAhead;
+    }
+
     @Override
     public String[] getSchemas() {
         return schemaNames;
@@ -510,6 +614,11 @@ public class ClassicConfiguration implements Configuration {
         return repeatableSqlMigrationPrefix;
     }
 
+    @Override
+    public String getCsvMigrationPrefix() {
+        return csvMigrationPrefix;
+    }
+
     @Override
     public String getSqlMigrationSeparator() {
         return sqlMigrationSeparator;
@@ -949,6 +1058,45 @@ public class ClassicConfiguration implements Configuration {
         this.encoding = Charset.forName(encoding);
     }
 
+    /**
+     * Sets the directory in which to cache the checksums of SQL migrations between runs. Cached checksums are reused
+     * as long as the size and last modification time of a migration are unchanged, which avoids reading all migrations
+     * on every run.
+     *
+     * @param checksumCacheDirectory The directory of the cache. (default: {@code null} for no cache)
+     */
+    public void setChecksumCacheDirectory(String checksumCacheDirectory) {
+        this.checksumCacheDirectory = checksumCacheDirectory;
+    }
+
+    /**
+     * Sets the number of threads to use for resolving SQL migrations. With more than one thread, the migrations are
+     * read, checksummed and analysed in parallel, which speeds up resolving large numbers of migrations.
+     *
+     * @param resolveThreads The number of threads. (default: 1)
+     */
+    public void setResolveThreads(int resolveThreads) {
+        if (resolveThreads < 1) {
+            throw new FlywayException("Invalid number of resolveThreads (must be 1 or greater): " + resolveThreads);
+        }
+        this.resolveThreads = resolveThreads;
+    }
+
+    /**
+     * Sets the number of pending SQL migrations to prepare ahead on a background thread while the current migration is
+     * being applied. Preparing a migration reads it, replaces its placeholders and parses it, which then no longer
+     * delays its execution.
+     *
+     * @param prepareAhead The number of migrations to prepare ahead. (default: 0 to prepare each migration only when
+     *                     applying it)
+     */
+    public void setPrepareAhead(int prepareAhead) {
+        if (prepareAhead < 0) {
+            throw new FlywayException("Invalid number of migrations to prepareAhead (must be 0 or greater): " + prepareAhead);
+        }
+        this.prepareAhead = prepareAhead;
+    }
+
     /**
      * Sets the schemas managed by Flyway. These schema names are case-sensitive. (default: The default schema for the database connection)
      * <p>Consequences:</p>
@@ -1109,39 +1257,68 @@ public class ClassicConfiguration implements Configuration {
 
     @Override
     public boolean isStream() {
-
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("stream");
-
-
-
-
+        return stream;
     }
 
     /**
      * Whether to stream SQL migrations when executing them. Streaming doesn't load the entire migration in memory at
      * once. Instead each statement is loaded individually. This is particularly useful for very large SQL migrations
      * composed of multiple MB or even GB of reference data, as this dramatically reduces Flyway's memory consumption.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      *
      * @param stream {@code true} to stream SQL migrations. {@code false} to fully loaded them in memory instead. (default: {@code false})
      */
     public void setStream(boolean stream) {
+        this.stream = stream;
+    }
 
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("stream");
-
+    @Override
+    public boolean isBatch() {
+        return batch;
+    }
 
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
 
+    @Override
+    public boolean isRewriteInserts() {
+        return rewriteInserts;
+    }
 
+    @Override
+    public boolean isReuseStatements() {
+        return reuseStatements;
     }
 
     @Override
-    public boolean isBatch() {
+    public int getChunkSize() {
+        return chunkSize;
+    }
 
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("batch");
+    @Override
+    public int getSlowStatements() {
+        return slowStatements;
+    }
 
+    @Override
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
 
+    @Override
+    public int getLockTimeout() {
+        return lockTimeout;
+    }
 
+    @Override
+    public int getLockTimeoutRetries() {
+        return lockTimeoutRetries;
+    }
 
+    @Override
+    public boolean isShareSchemaHistoryCache() {
+        return shareSchemaHistoryCache;
     }
 
     /**
@@ -1150,17 +1327,138 @@ public class ClassicConfiguration implements Configuration {
      * individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
      * reference data, as this can dramatically reduce the network overhead. This is supported for INSERT, UPDATE,
      * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      *
      * @param batch {@code true} to batch SQL statements. {@code false} to execute them individually instead. (default: {@code false})
      */
     public void setBatch(boolean batch) {
+        this.batch = batch;
+    }
 
-        throw new org.flywaydb.core.internal.license.FlywayProUpgradeRequiredException("batch");
+    /**
+     * Sets the maximum number of statements to send to the database at once when batching SQL statements.
+     *
+     * @param batchSize The maximum number of statements per batch. (default: 100)
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new FlywayException("Invalid batchSize (must be 1 or greater): " + batchSize);
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Whether to rewrite runs of INSERT statements with only literal values into the same table and columns, so that
+     * the database only has to parse a single statement for all of them. Depending on the database, the rows are then
+     * either combined into multi-row VALUES statements or bound to a single prepared statement executed as a batch.
+     * Statements whose values can't be safely extracted are executed as they are.
+     *
+     * @param rewriteInserts {@code true} to rewrite INSERT statements. {@code false} to execute them as they are. (default: {@code false})
+     */
+    public void setRewriteInserts(boolean rewriteInserts) {
+        this.rewriteInserts = rewriteInserts;
+    }
+
+    /**
+     * Whether to reuse a single JDBC statement for all SQL statements of a migration that are executed one by one,
+     * instead of creating and closing a new one for each of them. This saves driver overhead for migrations made of
+     * many small statements.
+     *
+     * @param reuseStatements {@code true} to reuse a single statement. {@code false} to create a new one for each SQL statement. (default: {@code false})
+     */
+    public void setReuseStatements(boolean reuseStatements) {
+        this.reuseStatements = reuseStatements;
+    }
+
+    /**
+     * Sets the maximum number of SQL statements to send to the database in a single round trip on SQL Server, MySQL
+     * (with allowMultiQueries=true) and PostgreSQL. Consecutive statements of a transactional migration which are
+     * executed one by one are then combined into chunks of up to this many statements. When a chunk fails, its
+     * statements are rolled back and executed again one by one to report the failing statement. On MySQL only DML
+     * statements are combined, as others may commit implicitly. 0 or 1 disables chunking.
+     *
+     * @param chunkSize The maximum number of statements per chunk. (default: 0)
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 0) {
+            throw new FlywayException("Invalid chunkSize (must be 0 or greater): " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sets the number of slowest SQL statements to report after migrating. The execution time of every statement of a
+     * SQL migration is then measured, and the slowest ones are listed with their migration, line, duration and update
+     * count once all migrations have been applied. Statements sent together in a batch or chunk are measured together.
+     * 0 disables the report.
+     *
+     * @param slowStatements The number of slowest statements to report. (default: 0)
+     */
+    public void setSlowStatements(int slowStatements) {
+        if (slowStatements < 0) {
+            throw new FlywayException("Invalid slowStatements (must be 0 or greater): " + slowStatements);
+        }
+        this.slowStatements = slowStatements;
+    }
 
+    /**
+     * Sets the number of statements after which a non-transactional SQL migration commits and records a checkpoint. Its statements are then executed in transactions
+     * of up to this many statements, except for those which can't be executed in a transaction, and the number of
+     * statements committed is recorded in a checkpoint table next to the schema history table within the same
+     * transaction. When such a migration fails or is interrupted, the uncommitted statements are rolled back and the
+     * next migrate resumes it right after its last checkpoint instead of starting over. 0 disables checkpoints.
+     *
+     * @param checkpointInterval The number of statements per checkpoint. (default: 0)
+     */
+    public void setCheckpointInterval(int checkpointInterval) {
+        if (checkpointInterval < 0) {
+            throw new FlywayException("Invalid checkpointInterval (must be 0 or greater): " + checkpointInterval);
+        }
+        this.checkpointInterval = checkpointInterval;
+    }
 
+    /**
+     * Sets the number of milliseconds each SQL statement of a migration may wait for a lock held by others before it
+     * gives up, or 0 to wait as long as the database does by default. This keeps long DDL on a busy table from queuing
+     * behind production traffic and blocking every other query meanwhile. The lock timeout of the database is used
+     * where available (PostgreSQL, MySQL, SQL Server, H2, DB2 and, for DDL, Oracle). It is ignored elsewhere.
+     *
+     * @param lockTimeout The lock timeout in milliseconds. (default: 0)
+     */
+    public void setLockTimeout(int lockTimeout) {
+        if (lockTimeout < 0) {
+            throw new FlywayException("Invalid lockTimeout (must be 0 or greater): " + lockTimeout);
+        }
+        this.lockTimeout = lockTimeout;
+    }
 
+    /**
+     * Sets the number of times a SQL statement or migration which gave up waiting for a lock is retried, after a
+     * randomized delay growing exponentially with each attempt. A statement is only retried on its own when it was
+     * executed outside a transaction, as it then had no effect at all. A migration is retried as a whole when it was
+     * executed in a transaction which has been rolled back, or when it resumes from its last checkpoint, provided it
+     * isn't part of a larger group. 0 disables retries.
+     *
+     * @param lockTimeoutRetries The number of retries. (default: 0)
+     */
+    public void setLockTimeoutRetries(int lockTimeoutRetries) {
+        if (lockTimeoutRetries < 0) {
+            throw new FlywayException("Invalid lockTimeoutRetries (must be 0 or greater): " + lockTimeoutRetries);
+        }
+        this.lockTimeoutRetries = lockTimeoutRetries;
+    }
 
+    /**
+     * Sets whether the applied migrations read from the schema history table are cached for all Flyway instances in
+     * this process using the same data source and table. Each command then only reads the rows added since the
+     * previous one instead of the whole table. Clean, repair and the removal of failed migrations invalidate the cache.
+     * Rows deleted by other processes and checksums they repair are detected, but descriptions or types they change in
+     * place are not.
+     *
+     * @param shareSchemaHistoryCache {@code true} to share the cache. {@code false} to cache the applied migrations per
+     *                                command. (default: {@code false})
+     */
+    public void setShareSchemaHistoryCache(boolean shareSchemaHistoryCache) {
+        this.shareSchemaHistoryCache = shareSchemaHistoryCache;
     }
 
     /**
@@ -1174,6 +1472,17 @@ public class ClassicConfiguration implements Configuration {
         this.repeatableSqlMigrationPrefix = repeatableSqlMigrationPrefix;
     }
 
+    /**
+     * Sets the file name prefix for CSV migrations.
+     * <p>CSV migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTION.csv ,
+     * which using the defaults translates to D1_1__My_table.csv</p>
+     *
+     * @param csvMigrationPrefix The file name prefix for CSV migrations (default: D)
+     */
+    public void setCsvMigrationPrefix(String csvMigrationPrefix) {
+        this.csvMigrationPrefix = csvMigrationPrefix;
+    }
+
     /**
      * Sets the file name separator for sql migrations.
      * <p>Sql migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTIONsuffix ,
@@ -1499,6 +1808,9 @@ public class ClassicConfiguration implements Configuration {
 
 
         setEncoding(configuration.getEncoding());
+        setChecksumCacheDirectory(configuration.getChecksumCacheDirectory());
+        setResolveThreads(configuration.getResolveThreads());
+        setPrepareAhead(configuration.getPrepareAhead());
         setGroup(configuration.isGroup());
         setIgnoreFutureMigrations(configuration.isIgnoreFutureMigrations());
         setIgnoreMissingMigrations(configuration.isIgnoreMissingMigrations());
@@ -1514,6 +1826,7 @@ public class ClassicConfiguration implements Configuration {
         setPlaceholders(configuration.getPlaceholders());
         setPlaceholderSuffix(configuration.getPlaceholderSuffix());
         setRepeatableSqlMigrationPrefix(configuration.getRepeatableSqlMigrationPrefix());
+        setCsvMigrationPrefix(configuration.getCsvMigrationPrefix());
         setResolvers(configuration.getResolvers());
         setSchemas(configuration.getSchemas());
         setSkipDefaultCallbacks(configuration.isSkipDefaultCallbacks());
@@ -1521,6 +1834,17 @@ public class ClassicConfiguration implements Configuration {
         setSqlMigrationPrefix(configuration.getSqlMigrationPrefix());
         setSqlMigrationSeparator(configuration.getSqlMigrationSeparator());
         setSqlMigrationSuffixes(configuration.getSqlMigrationSuffixes());
+        setStream(configuration.isStream());
+        setBatch(configuration.isBatch());
+        setBatchSize(configuration.getBatchSize());
+        setRewriteInserts(configuration.isRewriteInserts());
+        setReuseStatements(configuration.isReuseStatements());
+        setChunkSize(configuration.getChunkSize());
+        setSlowStatements(configuration.getSlowStatements());
+        setCheckpointInterval(configuration.getCheckpointInterval());
+        setLockTimeout(configuration.getLockTimeout());
+        setLockTimeoutRetries(configuration.getLockTimeoutRetries());
+        setShareSchemaHistoryCache(configuration.isShareSchemaHistoryCache());
         setTable(configuration.getTable());
         setTablespace(configuration.getTablespace());
         setTarget(configuration.getTarget());
@@ -1611,6 +1935,10 @@ public class ClassicConfiguration implements Configuration {
         if (repeatableSqlMigrationPrefixProp != null) {
             setRepeatableSqlMigrationPrefix(repeatableSqlMigrationPrefixProp);
         }
+        String csvMigrationPrefixProp = props.remove(ConfigUtils.CSV_MIGRATION_PREFIX);
+        if (csvMigrationPrefixProp != null) {
+            setCsvMigrationPrefix(csvMigrationPrefixProp);
+        }
         String sqlMigrationSeparatorProp = props.remove(ConfigUtils.SQL_MIGRATION_SEPARATOR);
         if (sqlMigrationSeparatorProp != null) {
             setSqlMigrationSeparator(sqlMigrationSeparatorProp);
@@ -1623,6 +1951,18 @@ public class ClassicConfiguration implements Configuration {
         if (encodingProp != null) {
             setEncodingAsString(encodingProp);
         }
+        String checksumCacheDirectoryProp = props.remove(ConfigUtils.CHECKSUM_CACHE_DIRECTORY);
+        if (checksumCacheDirectoryProp != null) {
+            setChecksumCacheDirectory(checksumCacheDirectoryProp);
+        }
+        Integer resolveThreadsProp = getIntegerProp(props, ConfigUtils.RESOLVE_THREADS);
+        if (resolveThreadsProp != null) {
+            setResolveThreads(resolveThreadsProp);
+        }
+        Integer prepareAheadProp = getIntegerProp(props, ConfigUtils.PREPARE_AHEAD);
+        if (prepareAheadProp != null) {
+            setPrepareAhead(prepareAheadProp);
+        }
         String schemasProp = props.remove(ConfigUtils.SCHEMAS);
         if (schemasProp != null) {
             setSchemas(StringUtils.tokenizeToStringArray(schemasProp, ","));
@@ -1751,6 +2091,51 @@ public class ClassicConfiguration implements Configuration {
             setBatch(batchProp);
         }
 
+        Integer batchSizeProp = getIntegerProp(props, ConfigUtils.BATCH_SIZE);
+        if (batchSizeProp != null) {
+            setBatchSize(batchSizeProp);
+        }
+
+        Boolean rewriteInsertsProp = getBooleanProp(props, ConfigUtils.REWRITE_INSERTS);
+        if (rewriteInsertsProp != null) {
+            setRewriteInserts(rewriteInsertsProp);
+        }
+
+        Boolean reuseStatementsProp = getBooleanProp(props, ConfigUtils.REUSE_STATEMENTS);
+        if (reuseStatementsProp != null) {
+            setReuseStatements(reuseStatementsProp);
+        }
+
+        Integer chunkSizeProp = getIntegerProp(props, ConfigUtils.CHUNK_SIZE);
+        if (chunkSizeProp != null) {
+            setChunkSize(chunkSizeProp);
+        }
+
+        Integer slowStatementsProp = getIntegerProp(props, ConfigUtils.SLOW_STATEMENTS);
+        if (slowStatementsProp != null) {
+            setSlowStatements(slowStatementsProp);
+        }
+
+        Integer checkpointIntervalProp = getIntegerProp(props, ConfigUtils.CHECKPOINT_INTERVAL);
+        if (checkpointIntervalProp != null) {
+            setCheckpointInterval(checkpointIntervalProp);
+        }
+
+        Integer lockTimeoutProp = getIntegerProp(props, ConfigUtils.LOCK_TIMEOUT);
+        if (lockTimeoutProp != null) {
+            setLockTimeout(lockTimeoutProp);
+        }
+
+        Integer lockTimeoutRetriesProp = getIntegerProp(props, ConfigUtils.LOCK_TIMEOUT_RETRIES);
+        if (lockTimeoutRetriesProp != null) {
+            setLockTimeoutRetries(lockTimeoutRetriesProp);
+        }
+
+        Boolean shareSchemaHistoryCacheProp = getBooleanProp(props, ConfigUtils.SHARE_SCHEMA_HISTORY_CACHE);
+        if (shareSchemaHistoryCacheProp != null) {
+            setShareSchemaHistoryCache(shareSchemaHistoryCacheProp);
+        }
+
         Boolean oracleSqlplusProp = getBooleanProp(props, ConfigUtils.ORACLE_SQLPLUS);
         if (oracleSqlplusProp != null) {
             setOracleSqlplus(oracleSqlplusProp);
@@ -84,6 +84,21 @@ public class FluentConfiguration implements Configuration {
         return config.getEncoding();
     }
 
+    @Override
+    public String getChecksumCacheDirectory() {
+        return config.getChecksumCacheDirectory();
+    }
+
+    @Override
+    public int getResolveThreads() {
+        return config.getResolveThreads();
+    }
+
+    @Override
+    public int getPrepareAhead() {
+        return config.getPrepareAhead();
+    }
+
     @Override
     public String[] getSchemas() {
         return config.getSchemas();
@@ -134,6 +149,11 @@ public class FluentConfiguration implements Configuration {
         return config.getRepeatableSqlMigrationPrefix();
     }
 
+    @Override
+    public String getCsvMigrationPrefix() {
+        return config.getCsvMigrationPrefix();
+    }
+
     @Override
     public String getSqlMigrationSeparator() {
         return config.getSqlMigrationSeparator();
@@ -269,6 +289,51 @@ public class FluentConfiguration implements Configuration {
         return config.isBatch();
     }
 
+    @Override
+    public int getBatchSize() {
+        return config.getBatchSize();
+    }
+
+    @Override
+    public boolean isRewriteInserts() {
+        return config.isRewriteInserts();
+    }
+
+    @Override
+    public boolean isReuseStatements() {
+        return config.isReuseStatements();
+    }
+
+    @Override
+    public int getChunkSize() {
+        return config.getChunkSize();
+    }
+
+    @Override
+    public int getSlowStatements() {
+        return config.getSlowStatements();
+    }
+
+    @Override
+    public int getCheckpointInterval() {
+        return config.getCheckpointInterval();
+    }
+
+    @Override
+    public int getLockTimeout() {
+        return config.getLockTimeout();
+    }
+
+    @Override
+    public int getLockTimeoutRetries() {
+        return config.getLockTimeoutRetries();
+    }
+
+    @Override
+    public boolean isShareSchemaHistoryCache() {
+        return config.isShareSchemaHistoryCache();
+    }
+
     @Override
     public boolean isOracleSqlplus() {
         return config.isOracleSqlplus();
@@ -535,6 +600,42 @@ public class FluentConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * Sets the directory in which to cache the checksums of SQL migrations between runs. Cached checksums are reused
+     * as long as the size and last modification time of a migration are unchanged, which avoids reading all migrations
+     * on every run.
+     *
+     * @param checksumCacheDirectory The directory of the cache. (default: {@code null} for no cache)
+     */
+    public FluentConfiguration checksumCacheDirectory(String checksumCacheDirectory) {
+        config.setChecksumCacheDirectory(checksumCacheDirectory);
+        return this;
+    }
+
+    /**
+     * Sets the number of threads to use for resolving SQL migrations. With more than one thread, the migrations are
+     * read, checksummed and analysed in parallel, which speeds up resolving large numbers of migrations.
+     *
+     * @param resolveThreads The number of threads. (default: 1)
+     */
+    public FluentConfiguration resolveThreads(int resolveThreads) {
+        config.setResolveThreads(resolveThreads);
+        return this;
+    }
+
+    /**
+     * Sets the number of pending SQL migrations to prepare ahead on a background thread while the current migration is
+     * being applied. Preparing a migration reads it, replaces its placeholders and parses it, which then no longer
+     * delays its execution.
+     *
+     * @param prepareAhead The number of migrations to prepare ahead. (default: 0 to prepare each migration only when
+     *                     applying it)
+     */
+    public FluentConfiguration prepareAhead(int prepareAhead) {
+        config.setPrepareAhead(prepareAhead);
+        return this;
+    }
+
     /**
      * Sets the schemas managed by Flyway. These schema names are case-sensitive. (default: The default schema for the database connection)
      * <p>Consequences:</p>
@@ -685,6 +786,18 @@ public class FluentConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * Sets the file name prefix for CSV migrations.
+     * <p>CSV migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTION.csv ,
+     * which using the defaults translates to D1_1__My_table.csv</p>
+     *
+     * @param csvMigrationPrefix The file name prefix for CSV migrations (default: D)
+     */
+    public FluentConfiguration csvMigrationPrefix(String csvMigrationPrefix) {
+        config.setCsvMigrationPrefix(csvMigrationPrefix);
+        return this;
+    }
+
     /**
      * Sets the file name separator for sql migrations.
      * <p>Sql migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTIONsuffix ,
@@ -909,7 +1022,6 @@ public class FluentConfiguration implements Configuration {
      * Whether to stream SQL migrations when executing them. Streaming doesn't load the entire migration in memory at
      * once. Instead each statement is loaded individually. This is particularly useful for very large SQL migrations
      * composed of multiple MB or even GB of reference data, as this dramatically reduces Flyway's memory consumption.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      *
      * @param stream {@code true} to stream SQL migrations. {@code false} to fully loaded them in memory instead. (default: {@code false})
      */
@@ -924,7 +1036,6 @@ public class FluentConfiguration implements Configuration {
      * individually. This is particularly useful for very large SQL migrations composed of multiple MB or even GB of
      * reference data, as this can dramatically reduce the network overhead. This is supported for INSERT, UPDATE,
      * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      *
      * @param batch {@code true} to batch SQL statements. {@code false} to execute them individually instead. (default: {@code false})
      */
@@ -933,6 +1044,124 @@ public class FluentConfiguration implements Configuration {
         return this;
     }
 
+    /**
+     * Sets the maximum number of statements to send to the database at once when batching SQL statements.
+     *
+     * @param batchSize The maximum number of statements per batch. (default: 100)
+     */
+    public FluentConfiguration batchSize(int batchSize) {
+        config.setBatchSize(batchSize);
+        return this;
+    }
+
+    /**
+     * Whether to rewrite runs of INSERT statements with only literal values into the same table and columns, so that
+     * the database only has to parse a single statement for all of them. Depending on the database, the rows are then
+     * either combined into multi-row VALUES statements or bound to a single prepared statement executed as a batch.
+     * Statements whose values can't be safely extracted are executed as they are.
+     *
+     * @param rewriteInserts {@code true} to rewrite INSERT statements. {@code false} to execute them as they are. (default: {@code false})
+     */
+    public FluentConfiguration rewriteInserts(boolean rewriteInserts) {
+        config.setRewriteInserts(rewriteInserts);
+        return this;
+    }
+
+    /**
+     * Whether to reuse a single JDBC statement for all SQL statements of a migration that are executed one by one,
+     * instead of creating and closing a new one for each of them. This saves driver overhead for migrations made of
+     * many small statements.
+     *
+     * @param reuseStatements {@code true} to reuse a single statement. {@code false} to create a new one for each SQL statement. (default: {@code false})
+     */
+    public FluentConfiguration reuseStatements(boolean reuseStatements) {
+        config.setReuseStatements(reuseStatements);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of SQL statements to send to the database in a single round trip on SQL Server, MySQL
+     * (with allowMultiQueries=true) and PostgreSQL. Consecutive statements of a transactional migration which are
+     * executed one by one are then combined into chunks of up to this many statements. When a chunk fails, its
+     * statements are rolled back and executed again one by one to report the failing statement. On MySQL only DML
+     * statements are combined, as others may commit implicitly. 0 or 1 disables chunking.
+     *
+     * @param chunkSize The maximum number of statements per chunk. (default: 0)
+     */
+    public FluentConfiguration chunkSize(int chunkSize) {
+        config.setChunkSize(chunkSize);
+        return this;
+    }
+
+    /**
+     * Sets the number of slowest SQL statements to report after migrating. The execution time of every statement of a
+     * SQL migration is then measured, and the slowest ones are listed with their migration, line, duration and update
+     * count once all migrations have been applied. Statements sent together in a batch or chunk are measured together.
+     * 0 disables the report.
+     *
+     * @param slowStatements The number of slowest statements to report. (default: 0)
+     */
+    public FluentConfiguration slowStatements(int slowStatements) {
+        config.setSlowStatements(slowStatements);
+        return this;
+    }
+
+    /**
+     * Sets the number of statements after which a non-transactional SQL migration commits and records a checkpoint. Its statements are then executed in transactions
+     * of up to this many statements, except for those which can't be executed in a transaction, and the number of
+     * statements committed is recorded in a checkpoint table next to the schema history table within the same
+     * transaction. When such a migration fails or is interrupted, the uncommitted statements are rolled back and the
+     * next migrate resumes it right after its last checkpoint instead of starting over. 0 disables checkpoints.
+     *
+     * @param checkpointInterval The number of statements per checkpoint. (default: 0)
+     */
+    public FluentConfiguration checkpointInterval(int checkpointInterval) {
+        config.setCheckpointInterval(checkpointInterval);
+        return this;
+    }
+
+    /**
+     * Sets the number of milliseconds each SQL statement of a migration may wait for a lock held by others before it
+     * gives up, or 0 to wait as long as the database does by default. This keeps long DDL on a busy table from queuing
+     * behind production traffic and blocking every other query meanwhile. The lock timeout of the database is used
+     * where available (PostgreSQL, MySQL, SQL Server, H2, DB2 and, for DDL, Oracle). It is ignored elsewhere.
+     *
+     * @param lockTimeout The lock timeout in milliseconds. (default: 0)
+     */
+    public FluentConfiguration lockTimeout(int lockTimeout) {
+        config.setLockTimeout(lockTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the number of times a SQL statement or migration which gave up waiting for a lock is retried, after a
+     * randomized delay growing exponentially with each attempt. A statement is only retried on its own when it was
+     * executed outside a transaction, as it then had no effect at all. A migration is retried as a whole when it was
+     * executed in a transaction which has been rolled back, or when it resumes from its last checkpoint. 0 disables
+     * retries.
+     *
+     * @param lockTimeoutRetries The number of retries. (default: 0)
+     */
+    public FluentConfiguration lockTimeoutRetries(int lockTimeoutRetries) {
+        config.setLockTimeoutRetries(lockTimeoutRetries);
+        return this;
+    }
+
+    /**
+     * Sets whether the applied migrations read from the schema history table are cached for all Flyway instances in
+     * this process using the same data source and table. Each command then only reads the rows added since the
+     * previous one instead of the whole table. Clean, repair and the removal of failed migrations invalidate the cache.
+     * Rows deleted by other processes and checksums they repair are detected, but descriptions or types they change in
+     * place are not.
+     *
+     * @param shareSchemaHistoryCache {@code true} to share the cache. {@code false} to cache the applied migrations per
+     *                                command. (default: {@code false})
+     */
+    public FluentConfiguration shareSchemaHistoryCache(boolean shareSchemaHistoryCache) {
+        config.setShareSchemaHistoryCache(shareSchemaHistoryCache);
+        return this;
+    }
+
     /**
      * Whether to Flyway's support for Oracle SQL*Plus commands should be activated.
      * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
@@ -54,15 +54,21 @@ public interface CallbackExecutor {
      */
     void onEachMigrateOrUndoEvent(Event event);
 
+    /**
+     * Executes the callbacks for an "each statement" event within the same transaction (if any) as the main operation.
+     *
+     * @param event    The event to handle.
+     * @param sql      The SQL statement being handled.
+     * @param warnings The warnings of the statement, if it has been executed.
+     * @param errors   The errors of the statement, if it failed.
+     */
+    void onEachSqlStatementEvent(Event event, String sql, List<Warning> warnings, List<Error> errors);
 
-
-
-
-
-
-
-
-
-
-
+    /**
+     * Checks whether any callbacks have been registered at all. "Each statement" events don't need to be fired
+     * otherwise, sparing the work of preparing them for every statement.
+     *
+     * @return {@code true} if there are callbacks, {@code false} if not.
+     */
+    boolean hasCallbacks();
 }
\ No newline at end of file
@@ -82,18 +82,21 @@ public class DefaultCallbackExecutor implements CallbackExecutor {
         }
     }
 
+    @Override
+    public void onEachSqlStatementEvent(Event event, String sql, List<Warning> warnings, List<Error> errors) {
+        final Context context = new SimpleContext(configuration, database.getMigrationConnection(), migrationInfo,
+                sql, warnings, errors);
+        for (Callback callback : callbacks) {
+            if (callback.supports(event, context)) {
+                callback.handle(event, context);
+            }
+        }
+    }
 
-
-
-
-
-
-
-
-
-
-
-
+    @Override
+    public boolean hasCallbacks() {
+        return !callbacks.isEmpty();
+    }
 
     private void execute(final Event event, final Connection connection) {
         final Context context = new SimpleContext(configuration, connection, null);
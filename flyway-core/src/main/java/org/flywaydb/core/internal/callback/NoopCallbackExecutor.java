@@ -44,9 +44,12 @@ public enum NoopCallbackExecutor implements CallbackExecutor {
     public void onEachMigrateOrUndoEvent(Event event) {
     }
 
+    @Override
+    public void onEachSqlStatementEvent(Event event, String sql, List<Warning> warnings, List<Error> errors) {
+    }
 
-
-
-
-
+    @Override
+    public boolean hasCallbacks() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -153,11 +153,8 @@ public class SqlScriptCallbackFactory {
             LOG.info("Executing SQL callback: " + event.getId()
                     + (description == null ? "" : " - " + description)
                     + (sqlScript.executeInTransaction() ? "" : " [non-transactional]"));
-            database.createSqlScriptExecutor(new JdbcTemplate(context.getConnection())
-
-
-
-            ).execute(sqlScript);
+            database.createSqlScriptExecutor(new JdbcTemplate(context.getConnection()), NoopCallbackExecutor.INSTANCE,
+                    null).execute(sqlScript);
         }
 
         @Override
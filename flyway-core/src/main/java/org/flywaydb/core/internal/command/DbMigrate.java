@@ -34,13 +34,19 @@ import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.info.MigrationInfoImpl;
 import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
 import org.flywaydb.core.internal.jdbc.TransactionTemplate;
+import org.flywaydb.core.internal.resolver.sql.SqlMigrationExecutor;
+import org.flywaydb.core.internal.schemahistory.CheckpointTable;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.flywaydb.core.internal.sqlscript.LockTimeoutPolicy;
+import org.flywaydb.core.internal.sqlscript.SlowStatementCollector;
+import org.flywaydb.core.internal.util.AsciiTable;
 import org.flywaydb.core.internal.util.ExceptionUtils;
 import org.flywaydb.core.internal.util.StopWatch;
 import org.flywaydb.core.internal.util.StringUtils;
 import org.flywaydb.core.internal.util.TimeFormat;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -89,6 +95,33 @@ public class DbMigrate {
      */
     private final Connection connectionUserObjects;
 
+    /**
+     * Prepares upcoming migrations in the background during the migration run, or {@code null} if disabled.
+     */
+    private MigrationPreparer migrationPreparer;
+
+    /**
+     * The collector of the slowest statements of all migrations applied, or {@code null} if they aren't reported.
+     */
+    private SlowStatementCollector slowStatementCollector;
+
+    /**
+     * The table holding the checkpoints of non-transactional SQL migrations, or {@code null} if they aren't applied
+     * in chunks.
+     */
+    private CheckpointTable checkpointTable;
+
+    /**
+     * The policy retrying migrations which gave up waiting for a lock, or {@code null} if none has been configured.
+     */
+    private final LockTimeoutPolicy lockTimeoutPolicy;
+
+    /**
+     * The info about all known migrations, kept up to date as migrations are applied, or {@code null} until the first
+     * group of migrations is about to be applied.
+     */
+    private MigrationInfoServiceImpl infoService;
+
     /**
      * Creates a new database migrator.
      *
@@ -103,6 +136,7 @@ public class DbMigrate {
                      Configuration configuration, CallbackExecutor callbackExecutor) {
         this.database = database;
         this.connectionUserObjects = database.getMigrationConnection();
+        this.lockTimeoutPolicy = database.createLockTimeoutPolicy();
         this.schemaHistory = schemaHistory;
         this.schema = schema;
         this.migrationResolver = migrationResolver;
@@ -119,12 +153,25 @@ public class DbMigrate {
     public int migrate() throws FlywayException {
         callbackExecutor.onMigrateOrUndoEvent(Event.BEFORE_MIGRATE);
 
+        if (configuration.getPrepareAhead() > 0) {
+            migrationPreparer = new MigrationPreparer(configuration.getPrepareAhead());
+        }
+        if (configuration.getSlowStatements() > 0) {
+            slowStatementCollector = new SlowStatementCollector(configuration.getSlowStatements());
+        }
+        if (configuration.getCheckpointInterval() > 0) {
+            checkpointTable = schemaHistory.getCheckpointTable();
+        }
+
         int count;
         try {
             StopWatch stopWatch = new StopWatch();
             stopWatch.start();
 
             schemaHistory.create();
+            if (checkpointTable != null) {
+                checkpointTable.create();
+            }
 
             count = configuration.isGroup() ?
                     // When group is active, start the transaction boundary early to
@@ -144,6 +191,11 @@ public class DbMigrate {
         } catch (FlywayException e) {
             callbackExecutor.onMigrateOrUndoEvent(Event.AFTER_MIGRATE_ERROR);
             throw e;
+        } finally {
+            if (migrationPreparer != null) {
+                migrationPreparer.close();
+                migrationPreparer = null;
+            }
         }
 
         callbackExecutor.onMigrateOrUndoEvent(Event.AFTER_MIGRATE);
@@ -180,11 +232,15 @@ public class DbMigrate {
      * @return The number of newly applied migrations.
      */
     private Integer migrateGroup(boolean firstRun) {
-        MigrationInfoServiceImpl infoService =
-                new MigrationInfoServiceImpl(migrationResolver, schemaHistory, configuration,
-                        configuration.getTarget(), configuration.isOutOfOrder(),
-                        true, true, true, true);
-        infoService.refresh();
+        if (infoService == null) {
+            infoService = new MigrationInfoServiceImpl(migrationResolver, schemaHistory, configuration,
+                    configuration.getTarget(), configuration.isOutOfOrder(),
+                    true, true, true, true);
+            infoService.refresh();
+        } else {
+            // Only take the migrations applied since the last group into account
+            infoService.update();
+        }
 
         MigrationInfo current = infoService.current();
         MigrationVersion currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
@@ -230,8 +286,13 @@ public class DbMigrate {
             }
         }
 
+        MigrationInfoImpl[] pending = infoService.pending();
+        if (migrationPreparer != null) {
+            migrationPreparer.prepare(Arrays.asList(pending));
+        }
+
         LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
-        for (MigrationInfoImpl pendingMigration : infoService.pending()) {
+        for (MigrationInfoImpl pendingMigration : pending) {
             boolean isOutOfOrder = pendingMigration.getVersion() != null
                     && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
             group.put(pendingMigration, isOutOfOrder);
@@ -266,33 +327,95 @@ public class DbMigrate {
         } else {
             LOG.info("Successfully applied " + migrationSuccessCount + " migrations to schema " + schema + " (execution time " + TimeFormat.format(executionTime) + ")");
         }
+
+        if (slowStatementCollector != null) {
+            logSlowStatements(slowStatementCollector.getSlowStatements());
+        }
+    }
+
+    /**
+     * Logs these slowest statements of this migration run.
+     *
+     * @param slowStatements The slowest statements, slowest first.
+     */
+    private void logSlowStatements(List<SlowStatementCollector.SlowStatement> slowStatements) {
+        if (slowStatements.isEmpty()) {
+            return;
+        }
+
+        List<String> columns = Arrays.asList("Script", "Line", "Statements", "Execution Time", "Update Count");
+        List<List<String>> rows = new ArrayList<>();
+        for (SlowStatementCollector.SlowStatement slowStatement : slowStatements) {
+            rows.add(Arrays.asList(
+                    slowStatement.getScript(),
+                    "" + slowStatement.getLineNumber(),
+                    "" + slowStatement.getStatementCount(),
+                    TimeFormat.format(slowStatement.getDuration() / 1000000),
+                    slowStatement.getUpdateCount() < 0 ? "" : "" + slowStatement.getUpdateCount()));
+        }
+        LOG.info("Slowest statements:\n" + new AsciiTable(columns, rows, true, "", "").render());
     }
 
     /**
      * Applies this migration to the database. The migration state and the execution time are updated accordingly.
+     * A failure caused by giving up waiting for a lock is retried as configured, provided the group consists of this
+     * single migration and its changes have been rolled back. The other migrations of a larger group may already have
+     * been recorded in the schema history table and must never be applied again.
      *
      * @param group The group of migrations to apply.
      */
     private void applyMigrations(final LinkedHashMap<MigrationInfoImpl, Boolean> group) {
         boolean executeGroupInTransaction = isExecuteGroupInTransaction(group);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                applyMigrations(group, executeGroupInTransaction);
+                return;
+            } catch (FlywayMigrateException e) {
+                // Only retry once the failed migration had no effect anymore and nothing else has been recorded
+                MigrationInfoImpl migration = e.getMigration();
+                boolean rolledBack = executeGroupInTransaction
+                        ? database.supportsDdlTransactions()
+                        : isCheckpointed(migration);
+                if (group.size() != 1 || !rolledBack
+                        || lockTimeoutPolicy == null || !lockTimeoutPolicy.isRetryable(e, attempt)) {
+                    throw e;
+                }
+                lockTimeoutPolicy.backoff("Migration of " + toMigrationText(migration, e.isOutOfOrder()), attempt);
+            }
+        }
+    }
+
+    /**
+     * Applies this migration to the database once. The migration state and the execution time are updated
+     * accordingly, except for a failure which may still be retried.
+     *
+     * @param group                     The group of migrations to apply.
+     * @param executeGroupInTransaction Whether to apply the group in a single transaction.
+     */
+    private void applyMigrations(final LinkedHashMap<MigrationInfoImpl, Boolean> group,
+                                 boolean executeGroupInTransaction) {
         final StopWatch stopWatch = new StopWatch();
         try {
             if (executeGroupInTransaction) {
                 new TransactionTemplate(connectionUserObjects.getJdbcConnection()).execute(new Callable<Object>() {
                     @Override
                     public Object call() {
-                        doMigrateGroup(group, stopWatch);
+                        doMigrateGroup(group, stopWatch, true);
                         return null;
                     }
                 });
             } else {
-                doMigrateGroup(group, stopWatch);
+                doMigrateGroup(group, stopWatch, false);
             }
         } catch (FlywayMigrateException e) {
             MigrationInfoImpl migration = e.getMigration();
             String failedMsg = "Migration of " + toMigrationText(migration, e.isOutOfOrder()) + " failed!";
             if (database.supportsDdlTransactions() && executeGroupInTransaction) {
                 LOG.error(failedMsg + " Changes successfully rolled back.");
+            } else if (!executeGroupInTransaction && isCheckpointed(migration)) {
+                // Not recorded as failed, so the next migrate resumes it from its last checkpoint
+                LOG.error(failedMsg + " Changes since its last checkpoint successfully rolled back."
+                        + " Please fix the migration and migrate again to resume it from there.");
             } else {
                 LOG.error(failedMsg + " Please restore backups and roll back database and code!");
 
@@ -334,7 +457,8 @@ public class DbMigrate {
         return executeGroupInTransaction;
     }
 
-    private void doMigrateGroup(LinkedHashMap<MigrationInfoImpl, Boolean> group, StopWatch stopWatch) {
+    private void doMigrateGroup(LinkedHashMap<MigrationInfoImpl, Boolean> group, StopWatch stopWatch,
+                                boolean inTransaction) {
         Context context = new Context() {
             @Override
             public Configuration getConfiguration() {
@@ -364,7 +488,13 @@ public class DbMigrate {
                 callbackExecutor.setMigrationInfo(migration);
                 callbackExecutor.onEachMigrateOrUndoEvent(Event.BEFORE_EACH_MIGRATE);
                 try {
-                    migration.getResolvedMigration().getExecutor().execute(context);
+                    MigrationExecutor executor = migration.getResolvedMigration().getExecutor();
+                    if (!inTransaction && isCheckpointed(migration)) {
+                        ((SqlMigrationExecutor) executor).execute(context, checkpointTable,
+                                configuration.getCheckpointInterval());
+                    } else {
+                        executor.execute(context);
+                    }
                 } catch (FlywayException e) {
                     callbackExecutor.onEachMigrateOrUndoEvent(Event.AFTER_EACH_MIGRATE_ERROR);
                     throw new FlywayMigrateException(migration, isOutOfOrder, e);
@@ -373,6 +503,7 @@ public class DbMigrate {
                     throw new FlywayMigrateException(migration, isOutOfOrder, e);
                 }
 
+                collectSlowStatements(migration);
                 LOG.debug("Successfully completed migration of " + migrationText);
                 callbackExecutor.onEachMigrateOrUndoEvent(Event.AFTER_EACH_MIGRATE);
             } finally {
@@ -387,6 +518,24 @@ public class DbMigrate {
         }
     }
 
+    /**
+     * @return Whether this migration is applied in chunks with checkpoints when it isn't executed in a transaction.
+     */
+    private boolean isCheckpointed(MigrationInfoImpl migration) {
+        return checkpointTable != null
+                && migration.getResolvedMigration().getExecutor() instanceof SqlMigrationExecutor;
+    }
+
+    /**
+     * Adds the slowest statements of this migration which has just been applied to the ones of this migration run.
+     */
+    private void collectSlowStatements(MigrationInfoImpl migration) {
+        MigrationExecutor executor = migration.getResolvedMigration().getExecutor();
+        if (slowStatementCollector != null && executor instanceof SqlMigrationExecutor) {
+            slowStatementCollector.addAll(((SqlMigrationExecutor) executor).getSlowStatements());
+        }
+    }
+
     private String toMigrationText(MigrationInfoImpl migration, boolean isOutOfOrder) {
         final MigrationExecutor migrationExecutor = migration.getResolvedMigration().getExecutor();
         final String migrationText;
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.command;
+
+import org.flywaydb.core.api.executor.MigrationExecutor;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.info.MigrationInfoImpl;
+import org.flywaydb.core.internal.resolver.sql.SqlMigrationExecutor;
+
+import java.io.Closeable;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Prepares upcoming SQL migrations on a background thread while the current migration is being applied, so that
+ * reading, placeholder replacement and parsing no longer delay their execution.
+ * <p>At most the configured number of migrations are prepared ahead of the current one. Preparation failures are not
+ * reported here. The migration thread simply prepares the failing migration again once it reaches it, which reports
+ * the failure as the failure of that migration, exactly as without preparing ahead.</p>
+ */
+class MigrationPreparer implements Closeable {
+    private static final Log LOG = LogFactory.getLog(MigrationPreparer.class);
+
+    /**
+     * The number of migrations to prepare ahead of the current one.
+     */
+    private final int ahead;
+
+    /**
+     * The single thread preparing migrations, in the order in which they will be applied.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * The upcoming migrations which have already been handed to the background thread.
+     */
+    private final Set<SqlMigrationExecutor> scheduled = new HashSet<>();
+
+    /**
+     * Creates a new migration preparer.
+     *
+     * @param ahead The number of migrations to prepare ahead of the current one.
+     */
+    MigrationPreparer(int ahead) {
+        this.ahead = ahead;
+        this.executorService = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "flyway-prepare");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Schedules the preparation of these upcoming migrations, up to the configured number ahead of the first one.
+     *
+     * @param upcoming The migrations still to be applied, in the order in which they will be applied.
+     */
+    void prepare(List<MigrationInfoImpl> upcoming) {
+        Set<SqlMigrationExecutor> window = new HashSet<>();
+        for (MigrationInfoImpl migration : upcoming) {
+            if (window.size() > ahead) {
+                break;
+            }
+            MigrationExecutor executor = migration.getResolvedMigration().getExecutor();
+            if (executor instanceof SqlMigrationExecutor) {
+                window.add((SqlMigrationExecutor) executor);
+                if (scheduled.add((SqlMigrationExecutor) executor)) {
+                    schedule((SqlMigrationExecutor) executor, migration.getScript());
+                }
+            }
+        }
+
+        // Forget the migrations which have been applied in the meantime
+        for (Iterator<SqlMigrationExecutor> iterator = scheduled.iterator(); iterator.hasNext(); ) {
+            if (!window.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void schedule(final SqlMigrationExecutor executor, final String script) {
+        executorService.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    executor.prepare();
+                } catch (RuntimeException e) {
+                    LOG.debug("Unable to prepare " + script + " ahead of its execution: " + e.getMessage());
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+    }
+}
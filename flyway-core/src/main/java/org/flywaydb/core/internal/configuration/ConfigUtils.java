@@ -48,10 +48,15 @@ public class ConfigUtils {
     public static final String BASELINE_ON_MIGRATE = "flyway.baselineOnMigrate";
     public static final String BASELINE_VERSION = "flyway.baselineVersion";
     public static final String BATCH = "flyway.batch";
+    public static final String BATCH_SIZE = "flyway.batchSize";
     public static final String CALLBACKS = "flyway.callbacks";
+    public static final String CHECKPOINT_INTERVAL = "flyway.checkpointInterval";
+    public static final String CHECKSUM_CACHE_DIRECTORY = "flyway.checksumCacheDirectory";
+    public static final String CHUNK_SIZE = "flyway.chunkSize";
     public static final String CLEAN_DISABLED = "flyway.cleanDisabled";
     public static final String CLEAN_ON_VALIDATION_ERROR = "flyway.cleanOnValidationError";
     public static final String CONNECT_RETRIES = "flyway.connectRetries";
+    public static final String CSV_MIGRATION_PREFIX = "flyway.csvMigrationPrefix";
     public static final String DRIVER = "flyway.driver";
     public static final String DRYRUN_OUTPUT = "flyway.dryRunOutput";
     public static final String ENCODING = "flyway.encoding";
@@ -65,6 +70,8 @@ public class ConfigUtils {
     public static final String INSTALLED_BY = "flyway.installedBy";
     public static final String LICENSE_KEY = "flyway.licenseKey";
     public static final String LOCATIONS = "flyway.locations";
+    public static final String LOCK_TIMEOUT = "flyway.lockTimeout";
+    public static final String LOCK_TIMEOUT_RETRIES = "flyway.lockTimeoutRetries";
     public static final String MIXED = "flyway.mixed";
     public static final String OUT_OF_ORDER = "flyway.outOfOrder";
     public static final String PASSWORD = "flyway.password";
@@ -72,11 +79,17 @@ public class ConfigUtils {
     public static final String PLACEHOLDER_REPLACEMENT = "flyway.placeholderReplacement";
     public static final String PLACEHOLDER_SUFFIX = "flyway.placeholderSuffix";
     public static final String PLACEHOLDERS_PROPERTY_PREFIX = "flyway.placeholders.";
+    public static final String PREPARE_AHEAD = "flyway.prepareAhead";
     public static final String REPEATABLE_SQL_MIGRATION_PREFIX = "flyway.repeatableSqlMigrationPrefix";
+    public static final String RESOLVE_THREADS = "flyway.resolveThreads";
     public static final String RESOLVERS = "flyway.resolvers";
+    public static final String REUSE_STATEMENTS = "flyway.reuseStatements";
+    public static final String REWRITE_INSERTS = "flyway.rewriteInserts";
     public static final String SCHEMAS = "flyway.schemas";
+    public static final String SHARE_SCHEMA_HISTORY_CACHE = "flyway.shareSchemaHistoryCache";
     public static final String SKIP_DEFAULT_CALLBACKS = "flyway.skipDefaultCallbacks";
     public static final String SKIP_DEFAULT_RESOLVERS = "flyway.skipDefaultResolvers";
+    public static final String SLOW_STATEMENTS = "flyway.slowStatements";
     public static final String SQL_MIGRATION_PREFIX = "flyway.sqlMigrationPrefix";
     public static final String SQL_MIGRATION_SEPARATOR = "flyway.sqlMigrationSeparator";
     public static final String SQL_MIGRATION_SUFFIXES = "flyway.sqlMigrationSuffixes";
@@ -135,9 +148,21 @@ public class ConfigUtils {
         if ("FLYWAY_BATCH".equals(key)) {
             return BATCH;
         }
+        if ("FLYWAY_BATCH_SIZE".equals(key)) {
+            return BATCH_SIZE;
+        }
         if ("FLYWAY_CALLBACKS".equals(key)) {
             return CALLBACKS;
         }
+        if ("FLYWAY_CHECKPOINT_INTERVAL".equals(key)) {
+            return CHECKPOINT_INTERVAL;
+        }
+        if ("FLYWAY_CHECKSUM_CACHE_DIRECTORY".equals(key)) {
+            return CHECKSUM_CACHE_DIRECTORY;
+        }
+        if ("FLYWAY_CHUNK_SIZE".equals(key)) {
+            return CHUNK_SIZE;
+        }
         if ("FLYWAY_CLEAN_DISABLED".equals(key)) {
             return CLEAN_DISABLED;
         }
@@ -153,6 +178,9 @@ public class ConfigUtils {
         if ("FLYWAY_CONNECT_RETRIES".equals(key)) {
             return CONNECT_RETRIES;
         }
+        if ("FLYWAY_CSV_MIGRATION_PREFIX".equals(key)) {
+            return CSV_MIGRATION_PREFIX;
+        }
         if ("FLYWAY_DRIVER".equals(key)) {
             return DRIVER;
         }
@@ -192,6 +220,12 @@ public class ConfigUtils {
         if ("FLYWAY_LOCATIONS".equals(key)) {
             return LOCATIONS;
         }
+        if ("FLYWAY_LOCK_TIMEOUT".equals(key)) {
+            return LOCK_TIMEOUT;
+        }
+        if ("FLYWAY_LOCK_TIMEOUT_RETRIES".equals(key)) {
+            return LOCK_TIMEOUT_RETRIES;
+        }
         if ("FLYWAY_MIXED".equals(key)) {
             return MIXED;
         }
@@ -213,21 +247,39 @@ public class ConfigUtils {
         if (key.matches("FLYWAY_PLACEHOLDERS_.+")) {
             return PLACEHOLDERS_PROPERTY_PREFIX + key.substring("FLYWAY_PLACEHOLDERS_".length()).toLowerCase(Locale.ENGLISH);
         }
+        if ("FLYWAY_PREPARE_AHEAD".equals(key)) {
+            return PREPARE_AHEAD;
+        }
         if ("FLYWAY_REPEATABLE_SQL_MIGRATION_PREFIX".equals(key)) {
             return REPEATABLE_SQL_MIGRATION_PREFIX;
         }
+        if ("FLYWAY_RESOLVE_THREADS".equals(key)) {
+            return RESOLVE_THREADS;
+        }
         if ("FLYWAY_RESOLVERS".equals(key)) {
             return RESOLVERS;
         }
+        if ("FLYWAY_REUSE_STATEMENTS".equals(key)) {
+            return REUSE_STATEMENTS;
+        }
+        if ("FLYWAY_REWRITE_INSERTS".equals(key)) {
+            return REWRITE_INSERTS;
+        }
         if ("FLYWAY_SCHEMAS".equals(key)) {
             return SCHEMAS;
         }
+        if ("FLYWAY_SHARE_SCHEMA_HISTORY_CACHE".equals(key)) {
+            return SHARE_SCHEMA_HISTORY_CACHE;
+        }
         if ("FLYWAY_SKIP_DEFAULT_CALLBACKS".equals(key)) {
             return SKIP_DEFAULT_CALLBACKS;
         }
         if ("FLYWAY_SKIP_DEFAULT_RESOLVERS".equals(key)) {
             return SKIP_DEFAULT_RESOLVERS;
         }
+        if ("FLYWAY_SLOW_STATEMENTS".equals(key)) {
+            return SLOW_STATEMENTS;
+        }
         if ("FLYWAY_SQL_MIGRATION_PREFIX".equals(key)) {
             return SQL_MIGRATION_PREFIX;
         }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.csv;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streams the records of a CSV reader in the normalized CSV form understood by the native bulk-load paths of
+ * databases, encoded in UTF-8. Fields are separated by commas and records end with a line feed. Values are always
+ * enclosed in double quotes, while {@code null} is written as configured, unquoted.
+ * <p>Records are converted one at a time while the database is reading, so the data is never held in memory as a
+ * whole.</p>
+ */
+public class CsvInputStream extends InputStream {
+    private final CsvReader csvReader;
+
+    /**
+     * The unquoted representation of {@code null}.
+     */
+    private final String nullValue;
+
+    private byte[] record = new byte[0];
+    private int recordPos;
+    private boolean done;
+
+    /**
+     * Creates a new stream of these records.
+     *
+     * @param csvReader The reader of the records, positioned after the header.
+     * @param nullValue The unquoted representation of {@code null}.
+     */
+    public CsvInputStream(CsvReader csvReader, String nullValue) {
+        this.csvReader = csvReader;
+        this.nullValue = nullValue;
+    }
+
+    private boolean nextRecord() {
+        if (done) {
+            return false;
+        }
+        String[] fields = csvReader.readRecord();
+        if (fields == null) {
+            done = true;
+            return false;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            if (fields[i] == null) {
+                sb.append(nullValue);
+            } else {
+                sb.append('"').append(fields[i].replace("\"", "\"\"")).append('"');
+            }
+        }
+        record = sb.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+        recordPos = 0;
+        return true;
+    }
+
+    @Override
+    public int read() {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        while (recordPos == record.length) {
+            if (!nextRecord()) {
+                return -1;
+            }
+        }
+        int count = Math.min(len, record.length - recordPos);
+        System.arraycopy(record, recordPos, b, off, count);
+        recordPos += count;
+        return count;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.csv;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.resource.LoadableResource;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the records of a CSV migration into a table. By default they are inserted using a prepared statement executed
+ * in batches. Databases offering a faster path for ingesting bulk data override {@link #load(LoadableResource, String,
+ * char)} to use it.
+ */
+public class CsvLoader {
+    private static final Log LOG = LogFactory.getLog(CsvLoader.class);
+
+    protected final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The maximum number of rows per batch.
+     */
+    private final int batchSize;
+
+    /**
+     * Creates a new CSV loader.
+     *
+     * @param jdbcTemplate The JDBC template to use.
+     * @param batchSize    The maximum number of rows per batch.
+     */
+    public CsvLoader(JdbcTemplate jdbcTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Loads the records of this CSV resource into this table.
+     *
+     * @param resource  The CSV resource, whose header holds the names of the columns to load.
+     * @param table     The table to load the records into.
+     * @param delimiter The character separating the fields of a record.
+     * @return The number of rows loaded.
+     */
+    public long load(LoadableResource resource, String table, char delimiter) {
+        return insert(resource, table, delimiter);
+    }
+
+    /**
+     * Loads the records of this CSV resource into this table using a prepared statement executed in batches.
+     *
+     * @param resource  The CSV resource, whose header holds the names of the columns to load.
+     * @param table     The table to load the records into.
+     * @param delimiter The character separating the fields of a record.
+     * @return The number of rows loaded.
+     */
+    protected final long insert(LoadableResource resource, String table, char delimiter) {
+        try (CsvReader csvReader = new CsvReader(resource, delimiter)) {
+            String[] columns = csvReader.getColumns();
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                    .append(" (").append(getColumnList(columns)).append(") VALUES (");
+            for (int i = 0; i < columns.length; i++) {
+                sql.append(i > 0 ? ", ?" : "?");
+            }
+            sql.append(')');
+
+            List<Object[]> rows = new ArrayList<>();
+            List<Integer> lines = new ArrayList<>();
+            String[] record;
+            while ((record = csvReader.readRecord()) != null) {
+                rows.add(record);
+                lines.add(csvReader.getRecordLine());
+                if (rows.size() >= batchSize) {
+                    executeBatch(resource, table, sql.toString(), rows, lines);
+                }
+            }
+            executeBatch(resource, table, sql.toString(), rows, lines);
+            return csvReader.getRecordCount();
+        }
+    }
+
+    private void executeBatch(LoadableResource resource, String table, String sql, List<Object[]> rows,
+                              List<Integer> lines) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Results results = jdbcTemplate.executeBatch(sql, rows);
+        SQLException e = results.getException();
+        if (e != null) {
+            throw new FlywaySqlException("Unable to insert row at line " + getFailedLine(lines, e) + " of "
+                    + resource.getFilename() + " into " + table, e);
+        }
+        rows.clear();
+        lines.clear();
+    }
+
+    /**
+     * Determines which row of this batch caused it to fail, based on the update counts reported by the driver.
+     */
+    private static int getFailedLine(List<Integer> lines, SQLException e) {
+        if (e instanceof BatchUpdateException) {
+            int[] updateCounts = ((BatchUpdateException) e).getUpdateCounts();
+            if (updateCounts != null) {
+                for (int i = 0; i < updateCounts.length && i < lines.size(); i++) {
+                    if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                        return lines.get(i);
+                    }
+                }
+                if (updateCounts.length < lines.size()) {
+                    return lines.get(updateCounts.length);
+                }
+            }
+        }
+        LOG.warn("Unable to determine which row of the batch between line " + lines.get(0) + " and line "
+                + lines.get(lines.size() - 1) + " failed. Reporting the first one.");
+        return lines.get(0);
+    }
+
+    /**
+     * @return These columns, separated by commas.
+     */
+    protected static String getColumnList(String[] columns) {
+        StringBuilder columnList = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                columnList.append(", ");
+            }
+            columnList.append(columns[i].trim());
+        }
+        return columnList.toString();
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.csv;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.util.BomStrippingReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of a CSV resource one by one, as described by RFC 4180. The first record is the header holding
+ * the names of the columns.
+ * <p>Fields may be enclosed in double quotes, in which case they can contain the delimiter, line breaks and doubled
+ * double quotes. An empty field which isn't enclosed in double quotes is read as {@code null}, while {@code ""} is read
+ * as an empty string. Empty lines are skipped.</p>
+ */
+public class CsvReader implements Closeable {
+    private static final Log LOG = LogFactory.getLog(CsvReader.class);
+
+    /**
+     * The number of records after which progress is reported again.
+     */
+    private static final long PROGRESS_INTERVAL = 1000000;
+
+    private final LoadableResource resource;
+    private final char delimiter;
+    private final Reader reader;
+
+    /**
+     * The names of the columns, as found in the header.
+     */
+    private final String[] columns;
+
+    /**
+     * The line the reader is currently at.
+     */
+    private int line = 1;
+
+    /**
+     * The line at which the last record read starts.
+     */
+    private int recordLine;
+
+    private long recordCount;
+
+    /**
+     * The character read ahead, or -2 if none has been.
+     */
+    private int next = -2;
+
+    /**
+     * Opens this resource and reads its header.
+     *
+     * @param resource  The CSV resource.
+     * @param delimiter The character separating the fields of a record.
+     * @throws FlywayException when the resource has no header.
+     */
+    public CsvReader(LoadableResource resource, char delimiter) {
+        this.resource = resource;
+        this.delimiter = delimiter;
+        this.reader = new BufferedReader(new BomStrippingReader(resource.read()));
+
+        String[] header = readFields();
+        if (header == null) {
+            close();
+            throw new FlywayException("Unable to read CSV migration " + resource.getFilename()
+                    + ": missing header with the names of the columns");
+        }
+        for (String column : header) {
+            if (column == null || column.trim().isEmpty()) {
+                close();
+                throw new FlywayException("Unable to read CSV migration " + resource.getFilename()
+                        + ": empty column name in header");
+            }
+        }
+        this.columns = header;
+    }
+
+    /**
+     * @return The names of the columns, as found in the header.
+     */
+    public String[] getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return The line at which the last record read starts.
+     */
+    public int getRecordLine() {
+        return recordLine;
+    }
+
+    /**
+     * @return The number of records read so far, excluding the header.
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * @return The CSV resource.
+     */
+    public LoadableResource getResource() {
+        return resource;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The fields of the record, one per column, or {@code null} if the end of the resource has been reached.
+     * @throws FlywayException when the record is malformed or doesn't have one field per column.
+     */
+    public String[] readRecord() {
+        String[] record = readFields();
+        if (record == null) {
+            LOG.debug("Read " + recordCount + " records from " + resource.getFilename());
+            return null;
+        }
+        if (record.length != columns.length) {
+            throw new FlywayException("Unable to read CSV migration " + resource.getFilename() + ": line " + recordLine
+                    + " has " + record.length + " fields instead of " + columns.length);
+        }
+        recordCount++;
+        if (recordCount % PROGRESS_INTERVAL == 0) {
+            LOG.info("Loading data from " + resource.getFilename() + ": " + recordCount + " rows so far");
+        }
+        return record;
+    }
+
+    private String[] readFields() {
+        try {
+            int c = read();
+            while (c == '\r' || c == '\n') {
+                c = read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            next = c;
+            recordLine = line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            while (true) {
+                c = read();
+                boolean quoted = c == '"';
+                if (quoted) {
+                    while (true) {
+                        c = read();
+                        if (c == -1) {
+                            throw new FlywayException("Unable to read CSV migration " + resource.getFilename()
+                                    + ": unterminated quoted field starting at line " + recordLine);
+                        }
+                        if (c == '"') {
+                            c = read();
+                            if (c != '"') {
+                                break;
+                            }
+                        }
+                        field.append((char) c);
+                    }
+                } else {
+                    while (c != delimiter && c != '\r' && c != '\n' && c != -1) {
+                        field.append((char) c);
+                        c = read();
+                    }
+                }
+                if (quoted && c != delimiter && c != '\r' && c != '\n' && c != -1) {
+                    throw new FlywayException("Unable to read CSV migration " + resource.getFilename()
+                            + ": unexpected character after quoted field at line " + line);
+                }
+
+                fields.add(quoted || field.length() > 0 ? field.toString() : null);
+                field.setLength(0);
+
+                if (c != delimiter) {
+                    if (c == '\r') {
+                        c = read();
+                        if (c != '\n') {
+                            next = c;
+                        }
+                    }
+                    return fields.toArray(new String[0]);
+                }
+            }
+        } catch (IOException e) {
+            throw new FlywayException("Unable to read CSV migration " + resource.getFilename() + ": " + e.getMessage(),
+                    e);
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (next != -2) {
+            c = next;
+            next = -2;
+            return c;
+        }
+        c = reader.read();
+        if (c == '\n' || (c == '\r' && peek() != '\n')) {
+            line++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        reader.mark(1);
+        int c = reader.read();
+        reader.reset();
+        return c;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            LOG.debug("Unable to close CSV migration " + resource.getFilename() + ": " + e.getMessage());
+        }
+    }
+}
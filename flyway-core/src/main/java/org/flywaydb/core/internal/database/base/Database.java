@@ -21,6 +21,7 @@ import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.callback.NoopCallbackExecutor;
+import org.flywaydb.core.internal.csv.CsvLoader;
 import org.flywaydb.core.internal.exception.FlywayDbUpgradeRequiredException;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.DatabaseType;
@@ -32,9 +33,13 @@ import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.StringResource;
 import org.flywaydb.core.internal.sqlscript.DefaultSqlScriptExecutor;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
+import org.flywaydb.core.internal.sqlscript.InsertRewriter;
+import org.flywaydb.core.internal.sqlscript.LockTimeoutPolicy;
+import org.flywaydb.core.internal.sqlscript.SlowStatementCollector;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutor;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
+import org.flywaydb.core.internal.sqlscript.StatementChunker;
 import org.flywaydb.core.internal.util.ExceptionUtils;
 
 import java.io.Closeable;
@@ -202,23 +207,18 @@ public abstract class Database<C extends Connection> implements Closeable, SqlSc
 
     /**
      * Creates a new SqlScriptExecutor for this specific database.
-     * <p>
-
-
-
-
+     *
+     * @param jdbcTemplate           The JdbcTemplate to use to execute the statements.
+     * @param callbackExecutor       The executor for the callbacks of the statement events.
+     * @param slowStatementCollector The collector of the slowest statements, or {@code null} to not measure the
+     *                               execution time of statements.
      * @return The new SqlScriptExecutor.
      */
-    public SqlScriptExecutor createSqlScriptExecutor(JdbcTemplate jdbcTemplate
-
-
-
-    ) {
-        return new DefaultSqlScriptExecutor(jdbcTemplate
-
-
-
-        );
+    public SqlScriptExecutor createSqlScriptExecutor(JdbcTemplate jdbcTemplate, CallbackExecutor callbackExecutor,
+                                                     SlowStatementCollector slowStatementCollector) {
+        return new DefaultSqlScriptExecutor(jdbcTemplate, configuration.isBatch(), configuration.getBatchSize(),
+                createInsertRewriter(), configuration.isReuseStatements(), createStatementChunker(),
+                callbackExecutor, slowStatementCollector, createLockTimeoutPolicy());
     }
 
     /**
@@ -325,6 +325,79 @@ public abstract class Database<C extends Connection> implements Closeable, SqlSc
      */
     public abstract boolean catalogIsSchema();
 
+    /**
+     * @return The maximum number of rows this database accepts in a single multi-row INSERT ... VALUES statement, or 0
+     * if it doesn't support them.
+     */
+    public int getMultiRowInsertLimit() {
+        return 0;
+    }
+
+    /**
+     * @return The rewriter for runs of INSERT statements, or {@code null} if they should be executed as they are.
+     */
+    protected InsertRewriter createInsertRewriter() {
+        return configuration.isRewriteInserts() ? new InsertRewriter(getMultiRowInsertLimit()) : null;
+    }
+
+    /**
+     * @return The chunker combining consecutive statements into chunks sent to the database in a single round trip, or
+     * {@code null} if this database can't execute multiple statements at once or chunking is disabled.
+     */
+    protected StatementChunker createStatementChunker() {
+        return null;
+    }
+
+    /**
+     * Creates a new loader for CSV migrations, using the fastest way this database offers to ingest bulk data.
+     *
+     * @param jdbcTemplate The JDBC template to use.
+     * @return The CSV loader.
+     */
+    public CsvLoader createCsvLoader(JdbcTemplate jdbcTemplate) {
+        return new CsvLoader(jdbcTemplate, configuration.getBatchSize());
+    }
+
+    /**
+     * @return The policy limiting how long statements wait for locks and retrying those which gave up, or {@code null}
+     * if neither a lock timeout nor retries have been configured.
+     */
+    public LockTimeoutPolicy createLockTimeoutPolicy() {
+        if (configuration.getLockTimeout() == 0 && configuration.getLockTimeoutRetries() == 0) {
+            return null;
+        }
+        return new LockTimeoutPolicy(this, configuration.getLockTimeout(), configuration.getLockTimeoutRetries());
+    }
+
+    /**
+     * Retrieves the statement limiting how long the statements executed from now on in this session wait for a lock.
+     *
+     * @param lockTimeout The number of milliseconds to wait at most.
+     * @return The statement, or {@code null} if this database has no lock timeout, in which case statements wait as
+     * long as they do by default.
+     */
+    public String getLockTimeoutStatement(int lockTimeout) {
+        return null;
+    }
+
+    /**
+     * @return The statement restoring the default lock timeout of this session, or {@code null} if this database has
+     * no lock timeout.
+     */
+    public String getResetLockTimeoutStatement() {
+        return null;
+    }
+
+    /**
+     * Checks whether this exception reports a statement giving up waiting for a lock.
+     *
+     * @param e The exception to check.
+     * @return {@code true} if it does, {@code false} if not, as always where this database has no lock timeout.
+     */
+    public boolean isLockTimeout(SQLException e) {
+        return false;
+    }
+
     /**
      * @return Whether to only use a single connection for both schema history table management and applying migrations.
      */
@@ -389,11 +462,7 @@ public abstract class Database<C extends Connection> implements Closeable, SqlSc
 
 
         );
-        new DefaultSqlScriptExecutor(new JdbcTemplate(connection)
-
-
-
-        ).execute(sqlScript);
+        new DefaultSqlScriptExecutor(new JdbcTemplate(connection)).execute(sqlScript);
     }
 
     /**
@@ -420,6 +489,20 @@ public abstract class Database<C extends Connection> implements Closeable, SqlSc
 
     protected abstract LoadableResource getRawCreateScript();
 
+    /**
+     * Retrieves the statement creating the table holding the checkpoints of the SQL migrations applied in chunks.
+     *
+     * @param table The table to create.
+     * @return The statement.
+     */
+    public String getCheckpointTableCreateStatement(Table table) {
+        return "CREATE TABLE " + table
+                + " (" + quote("script") + " VARCHAR(1000) NOT NULL"
+                + ", " + quote("statement_count") + " INT NOT NULL"
+                + ", " + quote("checksum") + " INT NOT NULL"
+                + ")";
+    }
+
     public String getInsertStatement(Table table) {
         return "INSERT INTO " + table
                 + " (" + quote("installed_rank")
@@ -451,6 +534,68 @@ public abstract class Database<C extends Connection> implements Closeable, SqlSc
                 + " ORDER BY " + quote("installed_rank");
     }
 
+    /**
+     * Retrieves the statement selecting only the columns of the schema history table needed to determine the state of
+     * each applied migration, in this order: installed_rank, version, description, type, checksum and success.
+     *
+     * @param table                  The schema history table.
+     * @param maxCachedInstalledRank The installed rank above which to select the rows.
+     * @return The select statement.
+     */
+    public String getSelectSummaryStatement(Table table, int maxCachedInstalledRank) {
+        return "SELECT " + quote("installed_rank")
+                + "," + quote("version")
+                + "," + quote("description")
+                + "," + quote("type")
+                + "," + quote("checksum")
+                + "," + quote("success")
+                + " FROM " + table
+                + " WHERE " + quote("installed_rank") + " > " + maxCachedInstalledRank
+                + " ORDER BY " + quote("installed_rank");
+    }
+
+    /**
+     * Retrieves the statement selecting the number of rows of the schema history table up to an installed rank and the
+     * sum of their checksums, so changes made by other processes can be detected without reading the rows themselves.
+     *
+     * @param table            The schema history table.
+     * @param maxInstalledRank The installed rank up to which to select the rows (inclusive).
+     * @return The select statement.
+     */
+    public String getSelectChecksumSummaryStatement(Table table, int maxInstalledRank) {
+        return "SELECT COUNT(*)," + getSumChecksumsExpression()
+                + " FROM " + table
+                + " WHERE " + quote("installed_rank") + " <= " + maxInstalledRank;
+    }
+
+    /**
+     * @return The expression summing the checksums of the schema history table without overflowing an integer.
+     */
+    protected String getSumChecksumsExpression() {
+        return "SUM(CAST(" + quote("checksum") + " AS BIGINT))";
+    }
+
+    /**
+     * Retrieves the statement selecting the columns of the schema history table left out by the summary statement, in
+     * this order: installed_rank, script, installed_on, installed_by and execution_time.
+     *
+     * @param table            The schema history table.
+     * @param minInstalledRank The installed rank from which to select the rows (inclusive).
+     * @param maxInstalledRank The installed rank up to which to select the rows (inclusive).
+     * @return The select statement.
+     */
+    public String getSelectDetailsStatement(Table table, int minInstalledRank, int maxInstalledRank) {
+        return "SELECT " + quote("installed_rank")
+                + "," + quote("script")
+                + "," + quote("installed_on")
+                + "," + quote("installed_by")
+                + "," + quote("execution_time")
+                + " FROM " + table
+                + " WHERE " + quote("installed_rank") + " >= " + minInstalledRank
+                + " AND " + quote("installed_rank") + " <= " + maxInstalledRank
+                + " ORDER BY " + quote("installed_rank");
+    }
+
     public void close() {
         if (!useSingleConnection() && migrationConnection != null) {
             migrationConnection.close();
@@ -174,6 +174,11 @@ public class CockroachDBDatabase extends Database<CockroachDBConnection> {
         return false;
     }
 
+    @Override
+    public int getMultiRowInsertLimit() {
+        return Integer.MAX_VALUE;
+    }
+
     @Override
     public boolean useSingleConnection() {
         return false;
@@ -137,6 +137,21 @@ public class DB2Database extends Database<DB2Connection> {
                 + " WITH UR";
     }
 
+    @Override
+    public String getSelectSummaryStatement(Table table, int maxCachedInstalledRank) {
+        return super.getSelectSummaryStatement(table, maxCachedInstalledRank) + " WITH UR";
+    }
+
+    @Override
+    public String getSelectChecksumSummaryStatement(Table table, int maxInstalledRank) {
+        return super.getSelectChecksumSummaryStatement(table, maxInstalledRank) + " WITH UR";
+    }
+
+    @Override
+    public String getSelectDetailsStatement(Table table, int minInstalledRank, int maxInstalledRank) {
+        return super.getSelectDetailsStatement(table, minInstalledRank, maxInstalledRank) + " WITH UR";
+    }
+
     @Override
     protected String doGetCurrentUser() throws SQLException {
         return getMainConnection().getJdbcTemplate().queryForString("select CURRENT_USER from sysibm.sysdummy1");
@@ -172,6 +187,25 @@ public class DB2Database extends Database<DB2Connection> {
         return false;
     }
 
+    @Override
+    public String getLockTimeoutStatement(int lockTimeout) {
+        // In whole seconds
+        return "SET CURRENT LOCK TIMEOUT = " + Math.max(1, (lockTimeout + 999) / 1000);
+    }
+
+    @Override
+    public String getResetLockTimeoutStatement() {
+        // Falls back to the locktimeout database configuration parameter
+        return "SET CURRENT LOCK TIMEOUT = NULL";
+    }
+
+    @Override
+    public boolean isLockTimeout(SQLException e) {
+        // SQLCODE -911 (rolled back) or -913 (not rolled back) with reason code 68: lock timeout, as opposed to deadlock
+        return (e.getErrorCode() == -911 || e.getErrorCode() == -913)
+                && e.getMessage() != null && e.getMessage().contains("SQLERRMC=68");
+    }
+
     @Override
     public boolean useSingleConnection() {
         return false;
@@ -40,6 +40,11 @@ public class H2Database extends Database<H2Connection> {
      */
     boolean supportsDropSchemaCascade;
 
+    /**
+     * The lock timeout sessions start out with, in milliseconds, or {@code null} if it hasn't been determined yet.
+     */
+    private Integer defaultLockTimeout;
+
     /**
      * Creates a new instance.
      *
@@ -161,4 +166,33 @@ public class H2Database extends Database<H2Connection> {
         return false;
     }
 
+    @Override
+    public int getMultiRowInsertLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public String getLockTimeoutStatement(int lockTimeout) {
+        if (defaultLockTimeout == null) {
+            // Determined before any session changes it, as there is no statement restoring it
+            try {
+                defaultLockTimeout = getMainConnection().getJdbcTemplate().queryForInt("SELECT LOCK_TIMEOUT()");
+            } catch (SQLException e) {
+                throw new FlywaySqlException("Unable to determine H2 lock timeout", e);
+            }
+        }
+        return "SET LOCK_TIMEOUT " + lockTimeout;
+    }
+
+    @Override
+    public String getResetLockTimeoutStatement() {
+        return defaultLockTimeout == null ? null : "SET LOCK_TIMEOUT " + defaultLockTimeout;
+    }
+
+    @Override
+    public boolean isLockTimeout(SQLException e) {
+        // LOCK_TIMEOUT_1
+        return e.getErrorCode() == 50200;
+    }
+
 }
\ No newline at end of file
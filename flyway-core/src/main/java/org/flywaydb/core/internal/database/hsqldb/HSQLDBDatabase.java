@@ -136,6 +136,11 @@ public class HSQLDBDatabase extends Database<HSQLDBConnection> {
         return false;
     }
 
+    @Override
+    public int getMultiRowInsertLimit() {
+        return Integer.MAX_VALUE;
+    }
+
     @Override
     public boolean useSingleConnection() {
         return true;
@@ -18,6 +18,7 @@ package org.flywaydb.core.internal.database.informix;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.configuration.FluentConfiguration;
 import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.ResourceProvider;
@@ -133,6 +134,12 @@ public class InformixDatabase extends Database<InformixConnection> {
         return "f";
     }
 
+    @Override
+    public String getCheckpointTableCreateStatement(Table table) {
+        return "CREATE TABLE " + table
+                + " (script LVARCHAR(1000) NOT NULL, statement_count INT NOT NULL, checksum INT NOT NULL)";
+    }
+
     @Override
     public String doQuote(String identifier) {
         return identifier;
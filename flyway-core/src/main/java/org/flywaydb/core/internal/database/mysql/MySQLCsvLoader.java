@@ -0,0 +1,153 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database.mysql;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.csv.CsvInputStream;
+import org.flywaydb.core.internal.csv.CsvLoader;
+import org.flywaydb.core.internal.csv.CsvReader;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.JdbcUtils;
+import org.flywaydb.core.internal.resource.LoadableResource;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loads CSV migrations into MySQL and MariaDB by streaming their records to a LOAD DATA LOCAL INFILE statement. The
+ * records are handed to the driver as a stream, so no file is ever written. When the driver can't be handed a stream,
+ * or local data loading has been disabled on the client or on the server, the records are inserted in batches instead.
+ * As LOCAL makes MySQL skip or truncate invalid rows with only a warning, any warning or missing row fails the load,
+ * just as inserting the rows would have.
+ */
+class MySQLCsvLoader extends CsvLoader {
+    private static final Log LOG = LogFactory.getLog(MySQLCsvLoader.class);
+
+    /**
+     * The error codes reported when local data loading has been disabled on the client or on the server.
+     */
+    private static final List<Integer> LOCAL_INFILE_DISABLED_ERROR_CODES = Arrays.asList(1148, 2068, 3948);
+
+    /**
+     * The statement types of the MySQL Connector/J (8.x and 5.x) and MariaDB (2.x and 3.x) drivers declaring
+     * setLocalInfileInputStream, to look for behind statements wrapped by a connection pool.
+     */
+    private static final String[] DRIVER_STATEMENT_CLASSES = {
+            "com.mysql.cj.jdbc.JdbcStatement",
+            "com.mysql.jdbc.Statement",
+            "org.mariadb.jdbc.MariaDbStatement",
+            "org.mariadb.jdbc.Statement"
+    };
+
+    private final String charset;
+
+    /**
+     * The ClassLoader to load the statement types of the driver with.
+     */
+    private final ClassLoader classLoader;
+
+    MySQLCsvLoader(JdbcTemplate jdbcTemplate, int batchSize, String charset, ClassLoader classLoader) {
+        super(jdbcTemplate, batchSize);
+        this.charset = charset;
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public long load(LoadableResource resource, String table, char delimiter) {
+        try (CsvReader csvReader = new CsvReader(resource, delimiter)) {
+            // Without an escape character, an unquoted NULL is NULL, while any quoted value is taken literally
+            String sql = "LOAD DATA LOCAL INFILE 'flyway.csv' INTO TABLE " + table + " CHARACTER SET " + charset
+                    + " FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+                    + " (" + getColumnList(csvReader.getColumns()) + ")";
+
+            Statement statement = null;
+            try {
+                statement = jdbcTemplate.getConnection().createStatement();
+                if (!setLocalInfileInputStream(statement, new CsvInputStream(csvReader, "NULL"))) {
+                    LOG.warn("Unable to stream " + resource.getFilename() + " using LOAD DATA LOCAL INFILE with this"
+                            + " driver. Inserting the rows in batches instead.");
+                    return insert(resource, table, delimiter);
+                }
+                long count = statement.executeUpdate(sql);
+                // LOCAL implies IGNORE, so rows with duplicate keys or invalid values are only reported as warnings
+                SQLWarning warning = statement.getWarnings();
+                if (warning != null) {
+                    throw new FlywaySqlException("Unable to load " + resource.getFilename() + " into " + table
+                            + " without warnings", warning);
+                }
+                if (count != csvReader.getRecordCount()) {
+                    String message = "Only " + count + " of the " + csvReader.getRecordCount() + " records of "
+                            + resource.getFilename() + " have been loaded into " + table;
+                    throw new FlywaySqlException(message, new SQLException(message));
+                }
+                return count;
+            } catch (SQLException e) {
+                if (LOCAL_INFILE_DISABLED_ERROR_CODES.contains(e.getErrorCode())) {
+                    LOG.warn("Unable to load " + resource.getFilename() + " using LOAD DATA LOCAL INFILE as local"
+                            + " data loading is disabled. Inserting the rows in batches instead.");
+                    return insert(resource, table, delimiter);
+                }
+                throw new FlywaySqlException("Unable to load " + resource.getFilename() + " into " + table, e);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                LOG.warn("Unable to stream " + resource.getFilename() + " using LOAD DATA LOCAL INFILE: "
+                        + e.getMessage() + ". Inserting the rows in batches instead.");
+                return insert(resource, table, delimiter);
+            } finally {
+                JdbcUtils.closeStatement(statement);
+            }
+        }
+    }
+
+    /**
+     * Hands the data to load to this statement as a stream, through the method of the MySQL Connector/J and MariaDB
+     * drivers, also when the statement of the driver is wrapped by a connection pool.
+     *
+     * @return {@code true} if it has been handed over, {@code false} if the driver doesn't support it.
+     */
+    private boolean setLocalInfileInputStream(Statement statement, InputStream inputStream)
+            throws SQLException, IllegalAccessException, InvocationTargetException {
+        try {
+            statement.getClass().getMethod("setLocalInfileInputStream", InputStream.class)
+                    .invoke(statement, inputStream);
+            return true;
+        } catch (NoSuchMethodException e) {
+            // Possibly wrapped
+        }
+        for (String className : DRIVER_STATEMENT_CLASSES) {
+            Class<?> driverStatementClass;
+            Method method;
+            try {
+                driverStatementClass = Class.forName(className, false, classLoader);
+                method = driverStatementClass.getMethod("setLocalInfileInputStream", InputStream.class);
+            } catch (ClassNotFoundException | LinkageError | NoSuchMethodException e) {
+                continue;
+            }
+            if (statement.isWrapperFor(driverStatementClass)) {
+                method.invoke(statement.unwrap(driverStatementClass), inputStream);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -19,6 +19,7 @@ import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.configuration.FluentConfiguration;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.csv.CsvLoader;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.jdbc.DatabaseType;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
@@ -29,6 +30,7 @@ import org.flywaydb.core.internal.resource.ResourceProvider;
 import org.flywaydb.core.internal.resource.StringResource;
 import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.StatementChunker;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -222,6 +224,66 @@ public class MySQLDatabase extends Database<MySQLConnection> {
         return true;
     }
 
+    @Override
+    protected String getSumChecksumsExpression() {
+        // MySQL cannot CAST to BIGINT, but already sums integers as DECIMAL
+        return "SUM(" + quote("checksum") + ")";
+    }
+
+    @Override
+    public int getMultiRowInsertLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public CsvLoader createCsvLoader(JdbcTemplate jdbcTemplate) {
+        return new MySQLCsvLoader(jdbcTemplate, configuration.getBatchSize(),
+                getVersion().isAtLeast("5.5") ? "utf8mb4" : "utf8", configuration.getClassLoader());
+    }
+
+    @Override
+    protected StatementChunker createStatementChunker() {
+        if (configuration.getChunkSize() <= 1) {
+            return null;
+        }
+        if (!isAllowMultiQueries()) {
+            LOG.debug("Not combining statements into chunks as allowMultiQueries isn't enabled in the JDBC URL");
+            return null;
+        }
+        return new MySQLStatementChunker(configuration.getChunkSize(), getDefaultDelimiter());
+    }
+
+    /**
+     * @return Whether the driver has been configured to accept multiple statements at once through the JDBC URL.
+     */
+    private boolean isAllowMultiQueries() {
+        try {
+            String url = jdbcMetaData.getURL();
+            return url != null && url.toLowerCase().contains("allowmultiqueries=true");
+        } catch (SQLException e) {
+            LOG.debug("Unable to retrieve the JDBC URL: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public String getLockTimeoutStatement(int lockTimeout) {
+        // Covers both metadata locks, as taken by DDL, and InnoDB row locks, in whole seconds
+        int seconds = Math.max(1, (lockTimeout + 999) / 1000);
+        return "SET SESSION lock_wait_timeout = " + seconds + ", innodb_lock_wait_timeout = " + seconds;
+    }
+
+    @Override
+    public String getResetLockTimeoutStatement() {
+        return "SET SESSION lock_wait_timeout = DEFAULT, innodb_lock_wait_timeout = DEFAULT";
+    }
+
+    @Override
+    public boolean isLockTimeout(SQLException e) {
+        // ER_LOCK_WAIT_TIMEOUT
+        return e.getErrorCode() == 1205;
+    }
+
     @Override
     public boolean useSingleConnection() {
         return !pxcStrict;
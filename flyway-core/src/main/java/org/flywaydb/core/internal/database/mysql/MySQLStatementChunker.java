@@ -0,0 +1,45 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database.mysql;
+
+import org.flywaydb.core.internal.sqlscript.Delimiter;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.StatementChunker;
+
+import java.util.regex.Pattern;
+
+/**
+ * Combines consecutive DML statements into chunks. Any other statement is executed on its own, as DDL and many other
+ * statements cause an implicit commit in MySQL, which would release the savepoint a failing chunk is rolled back to and
+ * commit the statements of the chunk preceding the failing one.
+ */
+class MySQLStatementChunker extends StatementChunker {
+    /**
+     * Matches the DML statements which never cause an implicit commit, possibly preceded by comments.
+     */
+    private static final Pattern DML_PATTERN = Pattern.compile(
+            "^\\s*((--|#)[^\\n]*\\n\\s*|/\\*.*?\\*/\\s*)*(INSERT|UPDATE|DELETE|REPLACE)\\b",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    MySQLStatementChunker(int chunkSize, Delimiter delimiter) {
+        super(chunkSize, delimiter);
+    }
+
+    @Override
+    public boolean isChunkable(SqlStatement sqlStatement) {
+        return super.isChunkable(sqlStatement) && DML_PATTERN.matcher(sqlStatement.getSql()).find();
+    }
+}
@@ -29,6 +29,7 @@ import org.flywaydb.core.internal.resource.ResourceProvider;
 import org.flywaydb.core.internal.resource.StringResource;
 import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SlowStatementCollector;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutor;
 import org.flywaydb.core.internal.util.StringUtils;
 
@@ -154,6 +155,12 @@ public class OracleDatabase extends Database<OracleConnection> {
         return new ParserSqlScript(parser, getRawCreateScript(), false);
     }
 
+    @Override
+    protected String getSumChecksumsExpression() {
+        // Oracle has no BIGINT, but already sums integers as NUMBER
+        return "SUM(" + quote("checksum") + ")";
+    }
+
     @Override
     protected LoadableResource getRawCreateScript() {
         String tablespace = configuration.getTablespace() == null
@@ -178,16 +185,28 @@ public class OracleDatabase extends Database<OracleConnection> {
     }
 
     @Override
-    public SqlScriptExecutor createSqlScriptExecutor(JdbcTemplate jdbcTemplate
-
-
-
-    ) {
-        return new OracleSqlScriptExecutor(jdbcTemplate
+    public SqlScriptExecutor createSqlScriptExecutor(JdbcTemplate jdbcTemplate, CallbackExecutor callbackExecutor,
+                                                     SlowStatementCollector slowStatementCollector) {
+        return new OracleSqlScriptExecutor(jdbcTemplate, configuration.isBatch(), configuration.getBatchSize(),
+                createInsertRewriter(), configuration.isReuseStatements(), createStatementChunker(),
+                callbackExecutor, slowStatementCollector, createLockTimeoutPolicy());
+    }
 
+    @Override
+    public String getLockTimeoutStatement(int lockTimeout) {
+        // Only applies to DDL, in whole seconds. DML always waits for row locks.
+        return "ALTER SESSION SET DDL_LOCK_TIMEOUT = " + Math.max(1, (lockTimeout + 999) / 1000);
+    }
 
+    @Override
+    public String getResetLockTimeoutStatement() {
+        return "ALTER SESSION SET DDL_LOCK_TIMEOUT = 0";
+    }
 
-        );
+    @Override
+    public boolean isLockTimeout(SQLException e) {
+        // ORA-00054: resource busy and acquire with NOWAIT specified or timeout expired
+        return e.getErrorCode() == 54;
     }
 
     @Override
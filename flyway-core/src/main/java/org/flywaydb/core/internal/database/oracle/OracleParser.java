@@ -23,6 +23,7 @@ import org.flywaydb.core.internal.parser.Recorder;
 import org.flywaydb.core.internal.parser.StatementType;
 import org.flywaydb.core.internal.parser.Token;
 import org.flywaydb.core.internal.parser.TokenType;
+import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.ResourceProvider;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
@@ -198,11 +199,12 @@ public class OracleParser extends Parser {
     }
 
     @Override
-    protected ParsedSqlStatement createStatement(PeekingReader reader, Recorder recorder,
+    protected ParsedSqlStatement createStatement(LoadableResource resource, PeekingReader reader,
+                                                 ParserContext context, Recorder recorder,
                                                  int statementPos, int statementLine, int statementCol,
                                                  int nonCommentPartPos, int nonCommentPartLine, int nonCommentPartCol,
                                                  StatementType statementType, boolean canExecuteInTransaction,
-                                                 Delimiter delimiter, String sql
+                                                 boolean batchable, Delimiter delimiter, String sql
 
 
 
@@ -262,9 +264,9 @@ public class OracleParser extends Parser {
             }
         }
 
-        return super.createStatement(reader, recorder, statementPos, statementLine, statementCol,
+        return super.createStatement(resource, reader, context, recorder, statementPos, statementLine, statementCol,
                 nonCommentPartPos, nonCommentPartLine, nonCommentPartCol,
-                statementType, canExecuteInTransaction, delimiter, sql
+                statementType, canExecuteInTransaction, batchable, delimiter, sql
 
 
 
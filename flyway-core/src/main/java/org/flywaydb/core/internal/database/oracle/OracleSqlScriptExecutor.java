@@ -26,8 +26,12 @@ import org.flywaydb.core.internal.jdbc.JdbcUtils;
 import org.flywaydb.core.internal.jdbc.Result;
 import org.flywaydb.core.internal.jdbc.Results;
 import org.flywaydb.core.internal.sqlscript.DefaultSqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.InsertRewriter;
+import org.flywaydb.core.internal.sqlscript.LockTimeoutPolicy;
+import org.flywaydb.core.internal.sqlscript.SlowStatementCollector;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.StatementChunker;
 import org.flywaydb.core.internal.util.AsciiTable;
 import org.flywaydb.core.internal.util.StringUtils;
 
@@ -53,17 +57,13 @@ public class OracleSqlScriptExecutor extends DefaultSqlScriptExecutor {
 
 
 
-    public OracleSqlScriptExecutor(JdbcTemplate jdbcTemplate
-
-
-
-
-    ) {
-        super(jdbcTemplate
-
-
-
-        );
+    public OracleSqlScriptExecutor(JdbcTemplate jdbcTemplate, boolean batch, int batchSize,
+                                   InsertRewriter insertRewriter, boolean reuseStatements,
+                                   StatementChunker statementChunker, CallbackExecutor callbackExecutor,
+                                   SlowStatementCollector slowStatementCollector,
+                                   LockTimeoutPolicy lockTimeoutPolicy) {
+        super(jdbcTemplate, batch, batchSize, insertRewriter, reuseStatements, statementChunker, callbackExecutor,
+                slowStatementCollector, lockTimeoutPolicy);
     }
 
     @Override
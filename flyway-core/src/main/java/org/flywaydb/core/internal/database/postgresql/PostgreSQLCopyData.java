@@ -0,0 +1,209 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database.postgresql;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.parser.PeekingReader;
+import org.flywaydb.core.internal.parser.SourceRereader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * The rows of a COPY ... FROM STDIN statement, which follow it in the migration up to the terminating \. line.
+ * <p>The rows are never held in memory as a whole. As long as the parser hasn't moved past them, they are read straight
+ * from the reader of the parser. Afterwards they are read by reading the resource again from their first line, through
+ * the rereader shared by all COPY statements of the resource, so it is read again at most once for all of them.</p>
+ */
+class PostgreSQLCopyData implements Closeable {
+    private static final Log LOG = LogFactory.getLog(PostgreSQLCopyData.class);
+
+    /**
+     * The number of rows after which progress is reported again.
+     */
+    private static final long PROGRESS_INTERVAL = 1000000;
+
+    private final SourceRereader sourceRereader;
+
+    /**
+     * The name of the resource containing the rows.
+     */
+    private final String filename;
+
+    /**
+     * The line at which the rows start.
+     */
+    private final int line;
+
+    /**
+     * The reader of the parser, positioned at the start of the rows, or {@code null} once the parser has moved past them.
+     */
+    private PeekingReader parserReader;
+
+    /**
+     * The rows handed out from the reader of the parser, or {@code null} if they haven't been yet.
+     */
+    private Rows parserRows;
+
+    /**
+     * Creates new COPY data.
+     *
+     * @param sourceRereader The rereader for the resource containing the rows.
+     * @param reader         The reader of the parser, positioned at the start of the rows.
+     * @param line           The line at which the rows start.
+     * @param filename       The name of the resource containing the rows.
+     */
+    PostgreSQLCopyData(SourceRereader sourceRereader, PeekingReader reader, int line, String filename) {
+        this.sourceRereader = sourceRereader;
+        this.parserReader = reader;
+        this.line = line;
+        this.filename = filename;
+        sourceRereader.register(line);
+    }
+
+    /**
+     * Opens the rows for reading.
+     *
+     * @return The reader for the rows, ending right before the terminating \. line.
+     * @throws IOException when the resource could not be read.
+     */
+    Reader read() throws IOException {
+        if (parserReader != null && parserRows == null) {
+            parserRows = new Rows(parserReader, false);
+            return parserRows;
+        }
+        return new Rows(sourceRereader.readFromLine(line), true);
+    }
+
+    /**
+     * Skips the rows which haven't been read from the reader of the parser yet, so it can continue with the next
+     * statement. From then on, the rows can only be read by reading the resource again.
+     */
+    @Override
+    public void close() throws IOException {
+        if (parserReader != null) {
+            Rows rows = parserRows == null ? new Rows(parserReader, false) : parserRows;
+            parserReader = null;
+            parserRows = null;
+            rows.skipRemaining();
+        }
+    }
+
+    /**
+     * Reads the rows line by line from the underlying reader, without ever reading past the terminating line.
+     */
+    private class Rows extends Reader {
+        private final PeekingReader reader;
+
+        /**
+         * Whether the underlying reader is the one of the rereader, which must be released together with this one.
+         */
+        private final boolean reread;
+
+        private String row = "";
+        private int rowPos;
+        private boolean done;
+
+        private long rowCount;
+        private long byteCount;
+
+        private Rows(PeekingReader reader, boolean reread) {
+            this.reader = reader;
+            this.reread = reread;
+        }
+
+        /**
+         * Reads the next row.
+         *
+         * @return {@code true} if it was read, {@code false} if the terminating line or the end of the resource was
+         * reached.
+         */
+        private boolean nextRow() throws IOException {
+            if (done) {
+                return false;
+            }
+            String line = reader.readUntilIncluding('\n');
+            if (isEnd(line)) {
+                done = true;
+                LOG.debug("Read " + rowCount + " rows (" + byteCount + " bytes) of COPY data from "
+                        + filename);
+                return false;
+            }
+            row = line;
+            rowPos = 0;
+            rowCount++;
+            byteCount += utf8Length(line);
+            if (rowCount % PROGRESS_INTERVAL == 0) {
+                LOG.info("Copying data from " + filename + ": " + rowCount + " rows ("
+                        + byteCount / (1024 * 1024) + " MB) so far");
+            }
+            return true;
+        }
+
+        /**
+         * Skips all remaining rows, including the terminating line.
+         */
+        private void skipRemaining() throws IOException {
+            while (!done) {
+                done = isEnd(reader.readUntilIncluding('\n'));
+            }
+        }
+
+        private boolean isEnd(String line) {
+            return line.isEmpty() || "\\.".equals(line.trim());
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            while (rowPos == row.length()) {
+                if (!nextRow()) {
+                    return -1;
+                }
+            }
+            int count = Math.min(len, row.length() - rowPos);
+            row.getChars(rowPos, rowPos + count, cbuf, off);
+            rowPos += count;
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (reread) {
+                sourceRereader.release(line, done);
+            }
+        }
+    }
+
+    /**
+     * @return The number of bytes of this string in UTF-8.
+     */
+    private static int utf8Length(String str) {
+        int length = str.length();
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c >= 0x80) {
+                // Each half of a surrogate pair adds one byte to the four of the pair
+                length += c < 0x800 || Character.isSurrogate(c) ? 1 : 2;
+            }
+        }
+        return length;
+    }
+}
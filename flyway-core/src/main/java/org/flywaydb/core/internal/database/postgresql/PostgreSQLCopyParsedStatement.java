@@ -25,7 +25,7 @@ import org.postgresql.copy.CopyManager;
 import org.postgresql.core.BaseConnection;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.Reader;
 import java.sql.SQLException;
 
 /**
@@ -41,13 +41,16 @@ public class PostgreSQLCopyParsedStatement extends ParsedSqlStatement {
 
     );
 
-    private final String copyData;
+    /**
+     * The rows to copy, read from the migration only when executing the statement.
+     */
+    private final PostgreSQLCopyData copyData;
 
     /**
      * Creates a new PostgreSQL COPY ... FROM STDIN statement.
      */
-    public PostgreSQLCopyParsedStatement(int pos, int line, int col, String sql, String copyData) {
-        super(pos, line, col, sql, COPY_DELIMITER, true
+    PostgreSQLCopyParsedStatement(int pos, int line, int col, String sql, PostgreSQLCopyData copyData) {
+        super(pos, line, col, sql, COPY_DELIMITER, true, false
 
 
 
@@ -64,8 +67,8 @@ public class PostgreSQLCopyParsedStatement extends ParsedSqlStatement {
         Results results = new Results();
         try {
             CopyManager copyManager = new CopyManager(jdbcTemplate.getConnection().unwrap(BaseConnection.class));
-            try {
-                long updateCount = copyManager.copyIn(getSql(), new StringReader(copyData));
+            try (Reader rows = copyData.read()) {
+                long updateCount = copyManager.copyIn(getSql(), rows);
                 results.addResult(new Result(updateCount
 
 
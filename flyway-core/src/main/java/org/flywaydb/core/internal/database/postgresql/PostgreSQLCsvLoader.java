@@ -0,0 +1,56 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database.postgresql;
+
+import org.flywaydb.core.internal.csv.CsvInputStream;
+import org.flywaydb.core.internal.csv.CsvLoader;
+import org.flywaydb.core.internal.csv.CsvReader;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.resource.LoadableResource;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+
+/**
+ * Loads CSV migrations into PostgreSQL by streaming their records to a COPY ... FROM STDIN statement.
+ */
+class PostgreSQLCsvLoader extends CsvLoader {
+    PostgreSQLCsvLoader(JdbcTemplate jdbcTemplate, int batchSize) {
+        super(jdbcTemplate, batchSize);
+    }
+
+    @Override
+    public long load(LoadableResource resource, String table, char delimiter) {
+        try (CsvReader csvReader = new CsvReader(resource, delimiter)) {
+            String sql = "COPY " + table + " (" + getColumnList(csvReader.getColumns()) + ") FROM STDIN WITH (FORMAT csv)";
+            try {
+                CopyManager copyManager = new CopyManager(jdbcTemplate.getConnection().unwrap(BaseConnection.class));
+                // In the CSV format of PostgreSQL, an unquoted empty field is NULL
+                try (InputStream rows = new CsvInputStream(csvReader, "")) {
+                    return copyManager.copyIn(sql, rows);
+                } catch (IOException e) {
+                    throw new SQLException("Unable to execute COPY operation", e);
+                }
+            } catch (SQLException e) {
+                throw new FlywaySqlException("Unable to copy " + resource.getFilename() + " into " + table, e);
+            }
+        }
+    }
+}
@@ -17,13 +17,16 @@ package org.flywaydb.core.internal.database.postgresql;
 
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.internal.csv.CsvLoader;
 import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.parser.Parser;
 import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.ResourceProvider;
 import org.flywaydb.core.internal.resource.StringResource;
 import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.StatementChunker;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.sql.Connection;
@@ -154,6 +157,39 @@ public class PostgreSQLDatabase extends Database<PostgreSQLConnection> {
         return false;
     }
 
+    @Override
+    public int getMultiRowInsertLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public CsvLoader createCsvLoader(JdbcTemplate jdbcTemplate) {
+        return new PostgreSQLCsvLoader(jdbcTemplate, configuration.getBatchSize());
+    }
+
+    @Override
+    protected StatementChunker createStatementChunker() {
+        return configuration.getChunkSize() > 1
+                ? new StatementChunker(configuration.getChunkSize(), getDefaultDelimiter())
+                : null;
+    }
+
+    @Override
+    public String getLockTimeoutStatement(int lockTimeout) {
+        return "SET lock_timeout = " + lockTimeout;
+    }
+
+    @Override
+    public String getResetLockTimeoutStatement() {
+        return "RESET lock_timeout";
+    }
+
+    @Override
+    public boolean isLockTimeout(SQLException e) {
+        // lock_not_available
+        return "55P03".equals(e.getSQLState());
+    }
+
     @Override
     public boolean useSingleConnection() {
         return true;
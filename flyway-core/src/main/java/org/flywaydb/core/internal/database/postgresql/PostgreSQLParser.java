@@ -23,6 +23,7 @@ import org.flywaydb.core.internal.parser.Recorder;
 import org.flywaydb.core.internal.parser.StatementType;
 import org.flywaydb.core.internal.parser.Token;
 import org.flywaydb.core.internal.parser.TokenType;
+import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
 
@@ -52,47 +53,36 @@ public class PostgreSQLParser extends Parser {
     }
 
     @Override
-    protected ParsedSqlStatement createStatement(PeekingReader reader, Recorder recorder,
+    protected ParsedSqlStatement createStatement(LoadableResource resource, PeekingReader reader,
+                                                 ParserContext context, Recorder recorder,
                                                  int statementPos, int statementLine, int statementCol,
                                                  int nonCommentPartPos, int nonCommentPartLine, int nonCommentPartCol,
                                                  StatementType statementType, boolean canExecuteInTransaction,
-                                                 Delimiter delimiter, String sql
+                                                 boolean batchable, Delimiter delimiter, String sql
 
 
 
     ) throws IOException {
         if (statementType == COPY) {
+            // Skip end of current line after ;
+            reader.readUntilIncluding('\n');
+
+            // The rows are only read once the statement is executed, or skipped before parsing the next statement
+            PostgreSQLCopyData copyData = new PostgreSQLCopyData(context.getSourceRereader(), reader,
+                    reader.getLine(), resource.getFilename());
+            context.setStatementData(copyData);
             return new PostgreSQLCopyParsedStatement(nonCommentPartPos, nonCommentPartLine, nonCommentPartCol,
-                    sql.substring(nonCommentPartPos - statementPos),
-                    readCopyData(reader, recorder));
+                    sql.substring(nonCommentPartPos - statementPos), copyData);
         }
-        return super.createStatement(reader, recorder, statementPos, statementLine, statementCol,
+        return super.createStatement(resource, reader, context, recorder, statementPos, statementLine, statementCol,
                 nonCommentPartPos, nonCommentPartLine, nonCommentPartCol,
-                statementType, canExecuteInTransaction, delimiter, sql
+                statementType, canExecuteInTransaction, batchable, delimiter, sql
 
 
 
         );
     }
 
-    private String readCopyData(PeekingReader reader, Recorder recorder) throws IOException {
-        // Skip end of current line after ;
-        reader.readUntilIncluding('\n');
-
-        recorder.start();
-        boolean done = false;
-        do {
-            String line = reader.readUntilIncluding('\n');
-            if ("\\.".equals(line.trim())) {
-                done = true;
-            } else {
-                recorder.confirm();
-            }
-        } while (!done);
-
-        return recorder.stop();
-    }
-
     @Override
     protected StatementType detectStatementType(String simplifiedStatement) {
         if (COPY_FROM_STDIN_REGEX.matcher(simplifiedStatement).matches()) {
@@ -156,6 +156,11 @@ public class RedshiftDatabase extends Database<RedshiftConnection> {
         return false;
     }
 
+    @Override
+    public int getMultiRowInsertLimit() {
+        return Integer.MAX_VALUE;
+    }
+
     @Override
     public boolean useSingleConnection() {
         return false;
@@ -148,6 +148,12 @@ public class SQLiteDatabase extends Database<SQLiteConnection> {
         return true;
     }
 
+    @Override
+    public int getMultiRowInsertLimit() {
+        // Multi-row VALUES were introduced in SQLite 3.7.11 and are limited by SQLITE_MAX_COMPOUND_SELECT (default: 500)
+        return getVersion().isAtLeast("3.7.11") ? 500 : 0;
+    }
+
     @Override
     public boolean useSingleConnection() {
         return true;
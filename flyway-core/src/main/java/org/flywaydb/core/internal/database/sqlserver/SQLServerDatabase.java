@@ -27,6 +27,7 @@ import org.flywaydb.core.internal.resource.StringResource;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.StatementChunker;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.sql.Connection;
@@ -198,6 +199,33 @@ public class SQLServerDatabase extends Database<SQLServerConnection> {
         return false;
     }
 
+    @Override
+    public int getMultiRowInsertLimit() {
+        // Table value constructors were introduced in SQL Server 2008 and are limited to 1000 rows
+        return getVersion().isAtLeast("10") ? 1000 : 0;
+    }
+
+    @Override
+    protected StatementChunker createStatementChunker() {
+        return configuration.getChunkSize() > 1 ? new SQLServerStatementChunker(configuration.getChunkSize()) : null;
+    }
+
+    @Override
+    public String getLockTimeoutStatement(int lockTimeout) {
+        return "SET LOCK_TIMEOUT " + lockTimeout;
+    }
+
+    @Override
+    public String getResetLockTimeoutStatement() {
+        return "SET LOCK_TIMEOUT -1";
+    }
+
+    @Override
+    public boolean isLockTimeout(SQLException e) {
+        // Lock request time out period exceeded
+        return e.getErrorCode() == 1222;
+    }
+
     @Override
     public boolean useSingleConnection() {
         return true;
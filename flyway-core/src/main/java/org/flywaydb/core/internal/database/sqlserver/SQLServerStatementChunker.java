@@ -0,0 +1,47 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.database.sqlserver;
+
+import org.flywaydb.core.internal.sqlscript.Delimiter;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.StatementChunker;
+
+import java.util.regex.Pattern;
+
+/**
+ * Combines consecutive T-SQL batches into a single batch. Batches using constructs whose scope is the batch itself are
+ * never combined, as they would behave differently or even fail when combined with other batches.
+ */
+class SQLServerStatementChunker extends StatementChunker {
+    /**
+     * Matches statements which must be the only one in their batch, declare variables or labels, or end the batch.
+     * This may also match these keywords in strings or comments, in which case the batch is simply not combined.
+     */
+    private static final Pattern BATCH_SCOPED_PATTERN = Pattern.compile(
+            "\\b(DECLARE|GOTO|RETURN"
+                    + "|CREATE\\s+(OR\\s+ALTER\\s+)?(PROC|PROCEDURE|FUNCTION|TRIGGER|VIEW|SCHEMA|DEFAULT|RULE)"
+                    + "|ALTER\\s+(PROC|PROCEDURE|FUNCTION|TRIGGER|VIEW))\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    SQLServerStatementChunker(int chunkSize) {
+        super(chunkSize, Delimiter.GO);
+    }
+
+    @Override
+    public boolean isChunkable(SqlStatement sqlStatement) {
+        return super.isChunkable(sqlStatement) && !BATCH_SCOPED_PATTERN.matcher(sqlStatement.getSql()).find();
+    }
+}
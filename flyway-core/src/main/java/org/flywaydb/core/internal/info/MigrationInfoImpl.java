@@ -51,6 +51,11 @@ public class MigrationInfoImpl implements MigrationInfo {
      */
     private final boolean outOfOrder;
 
+    /**
+     * The state of this migration, or {@code null} if it must be determined again.
+     */
+    private MigrationState state;
+
 
 
 
@@ -140,6 +145,21 @@ public class MigrationInfoImpl implements MigrationInfo {
 
     @Override
     public MigrationState getState() {
+        if (state == null) {
+            state = determineState();
+        }
+        return state;
+    }
+
+    /**
+     * Determines the state of this migration again the next time it is requested, as the context it depends on has
+     * changed.
+     */
+    void resetState() {
+        state = null;
+    }
+
+    private MigrationState determineState() {
 
 
 
@@ -294,26 +314,21 @@ public class MigrationInfoImpl implements MigrationInfo {
 
 
         ) {
-            String migrationIdentifier = appliedMigration.getVersion() == null ?
-                    // Repeatable migrations
-                    appliedMigration.getScript() :
-                    // Versioned migrations
-                    "version " + appliedMigration.getVersion();
             if (getVersion() == null || getVersion().compareTo(context.baseline) > 0) {
                 if (resolvedMigration.getType() != appliedMigration.getType()) {
-                    return createMismatchMessage("type", migrationIdentifier,
+                    return createMismatchMessage("type", getMigrationIdentifier(),
                             appliedMigration.getType(), resolvedMigration.getType());
                 }
                 if (resolvedMigration.getVersion() != null
                         || (context.pending && MigrationState.OUTDATED != state && MigrationState.SUPERSEDED != state)) {
                     if (!Objects.equals(resolvedMigration.getChecksum(), appliedMigration.getChecksum())) {
-                        return createMismatchMessage("checksum", migrationIdentifier,
+                        return createMismatchMessage("checksum", getMigrationIdentifier(),
                                 appliedMigration.getChecksum(), resolvedMigration.getChecksum());
                     }
                 }
                 if (!AbbreviationUtils.abbreviateDescription(resolvedMigration.getDescription())
                         .equals(appliedMigration.getDescription())) {
-                    return createMismatchMessage("description", migrationIdentifier,
+                    return createMismatchMessage("description", getMigrationIdentifier(),
                             appliedMigration.getDescription(), resolvedMigration.getDescription());
                 }
             }
@@ -321,6 +336,18 @@ public class MigrationInfoImpl implements MigrationInfo {
         return null;
     }
 
+    /**
+     * @return The identifier of this migration in mismatch messages. Only built for such a message, as the script of
+     * an applied migration may have to be loaded from the database first.
+     */
+    private String getMigrationIdentifier() {
+        return appliedMigration.getVersion() == null ?
+                // Repeatable migrations
+                appliedMigration.getScript() :
+                // Versioned migrations
+                "version " + appliedMigration.getVersion();
+    }
+
     /**
      * Creates a message for a mismatch.
      *
@@ -32,8 +32,10 @@ import org.flywaydb.core.internal.util.Pair;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -89,10 +91,71 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
     private final boolean future;
 
     /**
-     * The migrations infos calculated at the last refresh.
+     * The migrations infos calculated at the last refresh, or {@code null} if they must be sorted again after an
+     * update.
      */
     private List<MigrationInfoImpl> migrationInfos;
 
+    /**
+     * The context shared by all migration infos. Updating it in place updates the state of all of them.
+     */
+    private MigrationInfoContext migrationInfoContext;
+
+    /**
+     * The resolved versioned migrations by version, as of the last refresh.
+     */
+    private Map<Pair<MigrationVersion, Boolean>, ResolvedMigration> resolvedVersioned;
+
+    /**
+     * The resolved repeatable migrations by description, as of the last refresh.
+     */
+    private Map<String, ResolvedMigration> resolvedRepeatable;
+
+    /**
+     * The infos of the applied migrations, in the order in which they were applied.
+     */
+    private List<MigrationInfoImpl> appliedInfos;
+
+    /**
+     * The infos of the resolved versioned migrations not applied yet, by version.
+     */
+    private TreeMap<MigrationVersion, MigrationInfoImpl> unappliedVersioned;
+
+    /**
+     * The infos of the resolved repeatable migrations not applied yet, which are all pending, by description.
+     */
+    private TreeMap<String, MigrationInfoImpl> unappliedRepeatable;
+
+    /**
+     * The infos of the pending versioned migrations, by version.
+     */
+    private TreeMap<MigrationVersion, MigrationInfoImpl> pendingVersioned;
+
+    /**
+     * The infos of the latest run of each applied repeatable migration, by description.
+     */
+    private Map<String, MigrationInfoImpl> latestRepeatableInfos;
+
+    /**
+     * The applied versioned migration with the highest version, or {@code null} if there is none.
+     */
+    private MigrationInfoImpl currentVersioned;
+
+    /**
+     * The infos of the failed migrations, in the order in which they were applied.
+     */
+    private List<MigrationInfoImpl> failedInfos;
+
+    /**
+     * The infos of the future migrations, in the order in which they were applied.
+     */
+    private List<MigrationInfoImpl> futureInfos;
+
+    /**
+     * The infos of the migrations applied out of order, in the order in which they were applied.
+     */
+    private List<MigrationInfoImpl> outOfOrderInfos;
+
     /**
      * Creates a new MigrationInfoServiceImpl.
      *
@@ -263,6 +326,218 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
 
         Collections.sort(migrationInfos1);
         migrationInfos = migrationInfos1;
+
+        migrationInfoContext = context;
+        this.resolvedVersioned = resolvedVersioned;
+        this.resolvedRepeatable = resolvedRepeatable;
+        appliedInfos = new ArrayList<>();
+        unappliedVersioned = new TreeMap<>();
+        unappliedRepeatable = new TreeMap<>();
+        pendingVersioned = new TreeMap<>();
+        latestRepeatableInfos = new HashMap<>();
+        currentVersioned = null;
+        failedInfos = new ArrayList<>();
+        futureInfos = new ArrayList<>();
+        outOfOrderInfos = new ArrayList<>();
+        for (MigrationInfoImpl migrationInfo : migrationInfos1) {
+            if (migrationInfo.getAppliedMigration() == null) {
+                addUnappliedInfo(migrationInfo);
+            } else {
+                addAppliedInfo(migrationInfo);
+            }
+        }
+    }
+
+    /**
+     * Updates the info about all known migrations with the migrations applied since the last refresh or update,
+     * instead of calculating it again from scratch. Only the state of the migrations which have just been applied and
+     * of those affected by them is determined again. Falls back to a full refresh whenever the schema history changed
+     * in a way that can't be handled incrementally.
+     */
+    public void update() {
+        if (migrationInfoContext == null) {
+            refresh();
+            return;
+        }
+
+        List<AppliedMigration> appliedMigrations = schemaHistory.allAppliedMigrations();
+        int appliedCount = appliedInfos.size();
+        if (appliedMigrations.size() < appliedCount) {
+            refresh();
+            return;
+        }
+        // Iterating from the end of the applied migrations seen so far, as the schema history is a linked list
+        ListIterator<AppliedMigration> iterator = appliedMigrations.listIterator(appliedCount);
+        if (appliedCount > 0) {
+            AppliedMigration last = iterator.previous();
+            if (last.getInstalledRank() != appliedInfos.get(appliedCount - 1).getInstalledRank()) {
+                // Rows have been removed or replaced in the meantime
+                refresh();
+                return;
+            }
+            iterator.next();
+        }
+
+        List<AppliedMigration> newlyApplied = new ArrayList<>();
+        while (iterator.hasNext()) {
+            AppliedMigration appliedMigration = iterator.next();
+            if (appliedMigration.getType() == MigrationType.SCHEMA
+                    || appliedMigration.getType() == MigrationType.BASELINE) {
+                refresh();
+                return;
+            }
+            newlyApplied.add(appliedMigration);
+        }
+        if (newlyApplied.isEmpty()) {
+            return;
+        }
+
+        MigrationInfoContext context = migrationInfoContext;
+        MigrationVersion previousLastApplied = context.lastApplied;
+        for (AppliedMigration appliedMigration : newlyApplied) {
+            MigrationVersion version = appliedMigration.getVersion();
+            if (version == null) {
+                String description = appliedMigration.getDescription();
+                Integer latestRank = context.latestRepeatableRuns.get(description);
+                if (latestRank == null || appliedMigration.getInstalledRank() > latestRank) {
+                    context.latestRepeatableRuns.put(description, appliedMigration.getInstalledRank());
+                }
+                ResolvedMigration resolvedMigration = resolvedRepeatable.get(description);
+                if (resolvedMigration != null
+                        && appliedMigration.getInstalledRank() == context.latestRepeatableRuns.get(description)) {
+                    if (Objects.equals(appliedMigration.getChecksum(), resolvedMigration.getChecksum())) {
+                        unappliedRepeatable.remove(description);
+                    } else if (!unappliedRepeatable.containsKey(description)) {
+                        // Pending again, which also changes the state of its earlier runs
+                        refresh();
+                        return;
+                    }
+                }
+                addAppliedInfo(new MigrationInfoImpl(resolvedMigration, appliedMigration, context, false
+
+
+
+                ));
+                continue;
+            }
+
+            boolean outOfOrder = false;
+            if (version.compareTo(context.lastApplied) > 0) {
+                context.lastApplied = version;
+            } else {
+                outOfOrder = true;
+            }
+            ResolvedMigration resolvedMigration =
+                    resolvedVersioned.get(Pair.of(version, appliedMigration.getType().isUndo()));
+            if (resolvedMigration != null) {
+                unappliedVersioned.remove(version);
+                pendingVersioned.remove(version);
+            }
+            addAppliedInfo(new MigrationInfoImpl(resolvedMigration, appliedMigration, context, outOfOrder
+
+
+
+            ));
+        }
+
+        if (MigrationVersion.CURRENT == target) {
+            context.target = context.lastApplied;
+            resetUnappliedStates(unappliedVersioned.values());
+        } else if (!context.outOfOrder && context.lastApplied.compareTo(previousLastApplied) > 0) {
+            // Only the migrations between the previous and the new last applied one are ignored from now on
+            resetUnappliedStates(
+                    unappliedVersioned.subMap(previousLastApplied, true, context.lastApplied, false).values());
+        }
+
+        // Sorted again on demand
+        migrationInfos = null;
+    }
+
+    /**
+     * Determines the state of these unapplied versioned migrations again after the context changed.
+     */
+    private void resetUnappliedStates(Collection<MigrationInfoImpl> migrationInfos) {
+        for (MigrationInfoImpl migrationInfo : migrationInfos) {
+            migrationInfo.resetState();
+            if (migrationInfo.getState() == MigrationState.PENDING) {
+                pendingVersioned.put(migrationInfo.getVersion(), migrationInfo);
+            } else {
+                pendingVersioned.remove(migrationInfo.getVersion());
+            }
+        }
+    }
+
+    /**
+     * Adds the info of this resolved migration, which hasn't been applied yet, to the indexes.
+     */
+    private void addUnappliedInfo(MigrationInfoImpl migrationInfo) {
+        MigrationVersion version = migrationInfo.getVersion();
+        if (version == null) {
+            // Always pending
+            unappliedRepeatable.put(migrationInfo.getDescription(), migrationInfo);
+            return;
+        }
+        unappliedVersioned.put(version, migrationInfo);
+        if (migrationInfo.getState() == MigrationState.PENDING) {
+            pendingVersioned.put(version, migrationInfo);
+        }
+    }
+
+    /**
+     * Adds the info of this applied migration to the indexes. Its state doesn't depend on any migrations applied after
+     * it, except for the one of a repeatable migration being superseded by a later run, which doesn't change the
+     * indexes it is part of.
+     */
+    private void addAppliedInfo(MigrationInfoImpl migrationInfo) {
+        appliedInfos.add(migrationInfo);
+        AppliedMigration appliedMigration = migrationInfo.getAppliedMigration();
+        if (appliedMigration.getVersion() == null && appliedMigration.getInstalledRank()
+                == migrationInfoContext.latestRepeatableRuns.get(appliedMigration.getDescription())) {
+            MigrationInfoImpl superseded = latestRepeatableInfos.put(appliedMigration.getDescription(), migrationInfo);
+            if (superseded != null) {
+                superseded.resetState();
+            }
+        }
+
+        MigrationState state = migrationInfo.getState();
+        if (state.isApplied()
+
+
+
+
+                && migrationInfo.getVersion() != null
+                && (currentVersioned == null || migrationInfo.getVersion().compareTo(currentVersioned.getVersion()) > 0)) {
+            currentVersioned = migrationInfo;
+        }
+        if (state.isFailed()) {
+            failedInfos.add(migrationInfo);
+        }
+        if (((state == MigrationState.FUTURE_SUCCESS)
+                || (state == MigrationState.FUTURE_FAILED))
+
+
+
+
+        ) {
+            futureInfos.add(migrationInfo);
+        }
+        if (state == MigrationState.OUT_OF_ORDER) {
+            outOfOrderInfos.add(migrationInfo);
+        }
+    }
+
+    /**
+     * @return The infos of all known migrations, sorted.
+     */
+    private List<MigrationInfoImpl> getMigrationInfos() {
+        if (migrationInfos == null) {
+            List<MigrationInfoImpl> migrationInfos1 = new ArrayList<>(appliedInfos);
+            migrationInfos1.addAll(unappliedVersioned.values());
+            migrationInfos1.addAll(unappliedRepeatable.values());
+            Collections.sort(migrationInfos1);
+            migrationInfos = migrationInfos1;
+        }
+        return migrationInfos;
     }
 
 
@@ -290,7 +565,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
 
     public MigrationInfo[] all() {
         List<MigrationInfo> allMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
+        for (MigrationInfo migrationInfo : getMigrationInfos()) {
 
 
 
@@ -304,25 +579,13 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
     }
 
     public MigrationInfo current() {
-        MigrationInfo current = null;
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isApplied()
-
-
-
-
-                    && migrationInfo.getVersion() != null
-                    && (current == null || migrationInfo.getVersion().compareTo(current.getVersion()) > 0)) {
-                current = migrationInfo;
-            }
-        }
-        if (current != null) {
-            return current;
+        if (currentVersioned != null) {
+            return currentVersioned;
         }
 
         // If no versioned migration has been applied so far, fall back to the latest repeatable one
-        for (int i = migrationInfos.size() - 1; i >= 0; i--) {
-            MigrationInfoImpl migrationInfo = migrationInfos.get(i);
+        for (int i = appliedInfos.size() - 1; i >= 0; i--) {
+            MigrationInfoImpl migrationInfo = appliedInfos.get(i);
             if (migrationInfo.getState().isApplied()
 
 
@@ -337,20 +600,17 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
     }
 
     public MigrationInfoImpl[] pending() {
-        List<MigrationInfoImpl> pendingMigrations = new ArrayList<>();
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
-            if (MigrationState.PENDING == migrationInfo.getState()) {
-                pendingMigrations.add(migrationInfo);
-            }
-        }
+        List<MigrationInfoImpl> pendingMigrations = new ArrayList<>(pendingVersioned.values());
+        pendingMigrations.addAll(unappliedRepeatable.values());
 
         return pendingMigrations.toArray(new MigrationInfoImpl[0]);
     }
 
     public MigrationInfoImpl[] applied() {
+        // Every applied migration is in the applied state, in the order of the sorted infos
         List<MigrationInfoImpl> appliedMigrations = new ArrayList<>();
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isApplied()) {
+        for (MigrationInfoImpl migrationInfo : getMigrationInfos()) {
+            if (migrationInfo.getAppliedMigration() != null) {
                 appliedMigrations.add(migrationInfo);
             }
         }
@@ -365,7 +625,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      */
     public MigrationInfo[] resolved() {
         List<MigrationInfo> resolvedMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
+        for (MigrationInfo migrationInfo : getMigrationInfos()) {
             if (migrationInfo.getState().isResolved()) {
                 resolvedMigrations.add(migrationInfo);
             }
@@ -380,14 +640,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The failed migrations. An empty array if none.
      */
     public MigrationInfo[] failed() {
-        List<MigrationInfo> failedMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState().isFailed()) {
-                failedMigrations.add(migrationInfo);
-            }
-        }
-
-        return failedMigrations.toArray(new MigrationInfo[0]);
+        return failedInfos.toArray(new MigrationInfo[0]);
     }
 
     /**
@@ -396,20 +649,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The future migrations. An empty array if none.
      */
     public MigrationInfo[] future() {
-        List<MigrationInfo> futureMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (((migrationInfo.getState() == MigrationState.FUTURE_SUCCESS)
-                    || (migrationInfo.getState() == MigrationState.FUTURE_FAILED))
-
-
-
-
-            ) {
-                futureMigrations.add(migrationInfo);
-            }
-        }
-
-        return futureMigrations.toArray(new MigrationInfo[0]);
+        return futureInfos.toArray(new MigrationInfo[0]);
     }
 
     /**
@@ -418,14 +658,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The out of order migrations. An empty array if none.
      */
     public MigrationInfo[] outOfOrder() {
-        List<MigrationInfo> outOfOrderMigrations = new ArrayList<>();
-        for (MigrationInfo migrationInfo : migrationInfos) {
-            if (migrationInfo.getState() == MigrationState.OUT_OF_ORDER) {
-                outOfOrderMigrations.add(migrationInfo);
-            }
-        }
-
-        return outOfOrderMigrations.toArray(new MigrationInfo[0]);
+        return outOfOrderInfos.toArray(new MigrationInfo[0]);
     }
 
 
@@ -453,7 +686,7 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * @return The error message, or {@code null} if everything is fine.
      */
     public String validate() {
-        for (MigrationInfoImpl migrationInfo : migrationInfos) {
+        for (MigrationInfoImpl migrationInfo : getMigrationInfos()) {
             String message = migrationInfo.validate();
             if (message != null) {
                 return message;
@@ -15,6 +15,7 @@
  */
 package org.flywaydb.core.internal.jdbc;
 
+import java.math.BigDecimal;
 import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -42,6 +43,21 @@ public class JdbcTemplate {
      */
     private final int nullType;
 
+    /**
+     * Whether {@link #executeStatement(String)} reuses a single statement instead of creating a new one for each call.
+     */
+    private boolean reuseStatement;
+
+    /**
+     * The statement reused by {@link #executeStatement(String)}, or {@code null} if there currently is none.
+     */
+    private Statement reusableStatement;
+
+    /**
+     * The results reused by {@link #executeStatement(String)}, or {@code null} if there currently are none.
+     */
+    private Results reusableResults;
+
     /**
      * Creates a new JdbcTemplate.
      *
@@ -59,6 +75,30 @@ public class JdbcTemplate {
         return connection;
     }
 
+    /**
+     * @return Whether {@link #executeStatement(String)} reuses a single statement instead of creating a new one for
+     * each call.
+     */
+    public boolean isReuseStatement() {
+        return reuseStatement;
+    }
+
+    /**
+     * Sets whether {@link #executeStatement(String)} should reuse a single statement, along with the holder of its
+     * results, instead of creating new ones for each call. While enabled, the results it returns are only valid until
+     * its next call. Disabling it closes the reused statement.
+     *
+     * @param reuseStatement {@code true} to reuse a single statement. {@code false} to create a new one for each call.
+     */
+    public void setReuseStatement(boolean reuseStatement) {
+        this.reuseStatement = reuseStatement;
+        if (!reuseStatement) {
+            JdbcUtils.closeStatement(reusableStatement);
+            reusableStatement = null;
+            reusableResults = null;
+        }
+    }
+
     /**
      * Executes this query with these parameters against this connection.
      *
@@ -225,11 +265,14 @@ public class JdbcTemplate {
      * @return the results of the execution.
      */
     public Results executeStatement(String sql) {
+        if (reuseStatement) {
+            return executeReusedStatement(sql);
+        }
+
         Results results = new Results();
         Statement statement = null;
         try {
-            statement = connection.createStatement();
-            statement.setEscapeProcessing(false);
+            statement = createStatement();
             boolean hasResults;
             try {
                 hasResults = statement.execute(sql);
@@ -245,22 +288,132 @@ public class JdbcTemplate {
         return results;
     }
 
-    private void extractWarnings(Results results, Statement statement) throws SQLException {
-        SQLWarning warning = statement.getWarnings();
-        while (warning != null) {
-            results.addWarning(new WarningImpl(warning.getErrorCode(), warning.getSQLState(), warning.getMessage()));
-            warning = warning.getNextWarning();
+    /**
+     * Executes this sql statement using the reused ordinary Statement. Warnings are only extracted when the driver
+     * reports any. After a failure, the statement is closed and a new one is created for the next call, just as when
+     * not reusing statements.
+     */
+    private Results executeReusedStatement(String sql) {
+        if (reusableResults == null) {
+            reusableResults = new Results();
+        } else {
+            reusableResults.clear();
+        }
+        Results results = reusableResults;
+        try {
+            if (reusableStatement == null) {
+                reusableStatement = createStatement();
+            }
+            boolean hasResults;
+            try {
+                hasResults = reusableStatement.execute(sql);
+            } finally {
+                if (extractWarnings(results, reusableStatement)) {
+                    reusableStatement.clearWarnings();
+                }
+            }
+            extractResults(results, reusableStatement, hasResults);
+        } catch (final SQLException e) {
+            extractErrors(results, e);
+            JdbcUtils.closeStatement(reusableStatement);
+            reusableStatement = null;
         }
+        return results;
     }
 
-    public void extractErrors(Results results, SQLException e) {
+    /**
+     * Executes these sql statements as a single batch using an ordinary Statement.
+     *
+     * @param sqls The statements to execute. None of them may return a result set.
+     * @return the results of the execution, with one update count per statement. When the batch fails, its exception
+     * is a {@link BatchUpdateException} whose update counts tell how far the batch got.
+     */
+    public Results executeBatch(List<String> sqls) {
+        Results results = new Results();
+        Statement statement = null;
+        try {
+            statement = createStatement();
+            for (String sql : sqls) {
+                statement.addBatch(sql);
+            }
+            int[] updateCounts;
+            try {
+                updateCounts = statement.executeBatch();
+            } finally {
+                extractWarnings(results, statement);
+            }
+            for (int updateCount : updateCounts) {
+                results.addResult(new Result(updateCount
+
+
 
+                ));
+            }
+        } catch (final SQLException e) {
+            extractErrors(results, e);
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+        return results;
+    }
 
+    /**
+     * Executes this sql statement as a single batch using a PreparedStatement, once for each set of parameters.
+     *
+     * @param sql  The statement to execute.
+     * @param rows The parameters of each execution.
+     * @return the results of the execution, with one update count per set of parameters. When the batch fails, its
+     * exception is a {@link BatchUpdateException} whose update counts tell how far the batch got.
+     */
+    public Results executeBatch(String sql, List<Object[]> rows) {
+        Results results = new Results();
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(sql);
+            for (Object[] params : rows) {
+                setParameters(statement, params);
+                statement.addBatch();
+            }
+            int[] updateCounts;
+            try {
+                updateCounts = statement.executeBatch();
+            } finally {
+                extractWarnings(results, statement);
+            }
+            for (int updateCount : updateCounts) {
+                results.addResult(new Result(updateCount
 
 
 
+                ));
+            }
+        } catch (final SQLException e) {
+            extractErrors(results, e);
+        } finally {
+            JdbcUtils.closeStatement(statement);
+        }
+        return results;
+    }
 
+    /**
+     * @return Whether the statement reported any warnings.
+     */
+    private boolean extractWarnings(Results results, Statement statement) throws SQLException {
+        SQLWarning warning = statement.getWarnings();
+        boolean found = warning != null;
+        while (warning != null) {
+            results.addWarning(new WarningImpl(warning.getErrorCode(), warning.getSQLState(), warning.getMessage()));
+            warning = warning.getNextWarning();
+        }
+        return found;
+    }
 
+    public void extractErrors(Results results, SQLException e) {
+        SQLException error = e;
+        while (error != null) {
+            results.addError(new ErrorImpl(error.getErrorCode(), error.getSQLState(), error.getMessage()));
+            error = error.getNextException();
+        }
         results.setException(e);
     }
 
@@ -327,6 +480,20 @@ public class JdbcTemplate {
      */
     private PreparedStatement prepareStatement(String sql, Object[] params) throws SQLException {
         PreparedStatement statement = connection.prepareStatement(sql);
+        setParameters(statement, params);
+        return statement;
+    }
+
+    /**
+     * Creates a new ordinary statement, without escape processing as the sql executed by it is never escaped.
+     */
+    private Statement createStatement() throws SQLException {
+        Statement statement = connection.createStatement();
+        statement.setEscapeProcessing(false);
+        return statement;
+    }
+
+    private void setParameters(PreparedStatement statement, Object[] params) throws SQLException {
         for (int i = 0; i < params.length; i++) {
             if (params[i] == null) {
                 statement.setNull(i + 1, nullType);
@@ -334,29 +501,63 @@ public class JdbcTemplate {
                 statement.setInt(i + 1, (Integer) params[i]);
             } else if (params[i] instanceof Boolean) {
                 statement.setBoolean(i + 1, (Boolean) params[i]);
+            } else if (params[i] instanceof BigDecimal) {
+                statement.setBigDecimal(i + 1, (BigDecimal) params[i]);
             } else {
                 statement.setString(i + 1, params[i].toString());
             }
         }
-        return statement;
     }
 
     /**
-     * Executes this query and map the results using this row mapper.
+     * Executes this query and map the results using this row mapper, fetching this many rows per round trip.
      *
      * @param query     The query to execute.
+     * @param fetchSize The number of rows to fetch per round trip, as a hint to the driver.
      * @param rowMapper The row mapper to use.
      * @param <T>       The type of the result objects.
      * @return The list of results.
      * @throws SQLException when the query failed to execute.
      */
-    public <T> List<T> query(String query, RowMapper<T> rowMapper) throws SQLException {
+    public <T> List<T> query(String query, int fetchSize, RowMapper<T> rowMapper) throws SQLException {
         PreparedStatement statement = null;
         ResultSet resultSet = null;
 
         List<T> results;
         try {
             statement = connection.prepareStatement(query);
+            statement.setFetchSize(fetchSize);
+            resultSet = statement.executeQuery();
+
+            results = new ArrayList<>();
+            while (resultSet.next()) {
+                results.add(rowMapper.mapRow(resultSet));
+            }
+        } finally {
+            JdbcUtils.closeResultSet(resultSet);
+            JdbcUtils.closeStatement(statement);
+        }
+
+        return results;
+    }
+
+    /**
+     * Executes this query and map the results using this row mapper.
+     *
+     * @param query     The query to execute.
+     * @param rowMapper The row mapper to use.
+     * @param params    The query parameters.
+     * @param <T>       The type of the result objects.
+     * @return The list of results.
+     * @throws SQLException when the query failed to execute.
+     */
+    public <T> List<T> query(String query, RowMapper<T> rowMapper, Object... params) throws SQLException {
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        List<T> results;
+        try {
+            statement = prepareStatement(query, params);
             resultSet = statement.executeQuery();
 
             results = new ArrayList<>();
@@ -64,4 +64,14 @@ public class Results {
     public void setException(SQLException exception) {
         this.exception = exception;
     }
+
+    /**
+     * Clears these results, so they can be reused for the next statement.
+     */
+    void clear() {
+        results.clear();
+        warnings.clear();
+        errors.clear();
+        exception = null;
+    }
 }
\ No newline at end of file
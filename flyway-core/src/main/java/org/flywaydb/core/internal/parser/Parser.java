@@ -20,7 +20,6 @@ import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.resource.LoadableResource;
-import org.flywaydb.core.internal.resource.Resource;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
 import org.flywaydb.core.internal.sqlscript.SqlStatement;
@@ -29,10 +28,11 @@ import org.flywaydb.core.internal.util.BomStrippingReader;
 import org.flywaydb.core.internal.util.IOUtils;
 import org.flywaydb.core.internal.util.StringUtils;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -41,6 +41,34 @@ import java.util.regex.Pattern;
 public abstract class Parser {
     private static final Log LOG = LogFactory.getLog(Parser.class);
 
+    /**
+     * The number of most recent keywords of a statement that are still passed to {@link #adjustBlockDepth} once its
+     * transactional detection is complete. Older keywords are dropped to keep memory per statement bounded.
+     */
+    private static final int KEYWORD_WINDOW = 16;
+
+    /**
+     * The single-char strings of all ASCII chars, to avoid allocating a new string for every symbol.
+     */
+    private static final String[] ASCII_STRINGS = new String[128];
+
+    /**
+     * The keywords starting statements which can be executed as part of a batch.
+     */
+    private static final Set<String> BATCHABLE_KEYWORDS =
+            new HashSet<>(Arrays.asList("INSERT", "UPDATE", "DELETE", "MERGE", "UPSERT"));
+
+    /**
+     * The keywords making a statement return results, which prevents it from being executed as part of a batch.
+     */
+    private static final Set<String> RESULT_KEYWORDS = new HashSet<>(Arrays.asList("RETURNING", "OUTPUT"));
+
+    static {
+        for (char c = 0; c < ASCII_STRINGS.length; c++) {
+            ASCII_STRINGS[c] = String.valueOf(c).intern();
+        }
+    }
+
 
 
 
@@ -66,6 +94,13 @@ public abstract class Parser {
         this.validKeywords = getValidKeywords();
     }
 
+    /**
+     * @return The configuration used by this parser.
+     */
+    public Configuration getConfiguration() {
+        return configuration;
+    }
+
     protected Delimiter getDefaultDelimiter() {
         return Delimiter.SEMICOLON;
     }
@@ -93,12 +128,11 @@ public abstract class Parser {
     public SqlStatementIterator parse(final LoadableResource resource) {
         final PositionTracker tracker = new PositionTracker();
         final Recorder recorder = new Recorder();
-        final ParserContext context = new ParserContext(getDefaultDelimiter());
+        final ParserContext context = new ParserContext(getDefaultDelimiter(), new SourceRereader(this, resource));
 
         LOG.debug("Parsing " + resource.getFilename() + " ...");
-        Reader r = new PositionTrackingReader(tracker, new BomStrippingReader(new BufferedReader(resource.read(), 4096)));
-        final PeekingReader peekingReader =
-                new PeekingReader(new RecordingReader(recorder, replacePlaceholders(r)));
+        Reader r = new BomStrippingReader(resource.readAndChecksum());
+        final PeekingReader peekingReader = new PeekingReader(replacePlaceholders(r), tracker, recorder);
 
         return new ParserSqlStatementIterator(peekingReader, resource, recorder, tracker, context);
     }
@@ -120,15 +154,43 @@ public abstract class Parser {
         return r;
     }
 
-    private SqlStatement getNextStatement(Resource resource, PeekingReader reader, Recorder recorder, PositionTracker tracker, ParserContext context) {
+    /**
+     * Reads this resource again the same way as when parsing it, starting at the beginning of this line. Data
+     * following statements should rather be read again through {@link ParserContext#getSourceRereader()}.
+     *
+     * @param resource The resource to read.
+     * @param line     The line to start at.
+     * @return The reader, positioned at the start of this line.
+     * @throws IOException when the resource could not be read.
+     */
+    public PeekingReader readFromLine(LoadableResource resource, int line) throws IOException {
+        PeekingReader reader = new PeekingReader(replacePlaceholders(new BomStrippingReader(resource.read())),
+                new PositionTracker(), new Recorder());
+        try {
+            for (int i = 1; i < line; i++) {
+                reader.swallowUntilExcluding('\n', '\n');
+                reader.swallow();
+            }
+        } catch (IOException | RuntimeException e) {
+            IOUtils.close(reader);
+            throw e;
+        }
+        return reader;
+    }
+
+    private SqlStatement getNextStatement(LoadableResource resource, PeekingReader reader, Recorder recorder, PositionTracker tracker, ParserContext context) {
         resetDelimiter(context);
 
         int statementLine = tracker.getLine();
         int statementCol = tracker.getCol();
 
         try {
-            List<Token> tokens = new ArrayList<>();
+            // Skip whatever hasn't been read of the data following the previous statement
+            context.skipStatementData();
+
+            int tokenCount = 0;
             List<Token> keywords = new ArrayList<>();
+            int keywordCount = 0;
 
             int statementPos = -1;
             recorder.start();
@@ -139,20 +201,21 @@ public abstract class Parser {
 
             StatementType statementType = null;
             Boolean canExecuteInTransaction = null;
+            boolean batchable = false;
 
 
 
 
-            String simplifiedStatement = "";
+            StringBuilder simplifiedStatement = new StringBuilder();
 
             do {
                 Token token = readToken(reader, tracker, context);
                 if (token == null) {
-                    if (tokens.isEmpty()) {
+                    if (tokenCount == 0) {
                         recorder.start();
                         statementLine = tracker.getLine();
                         statementCol = tracker.getCol();
-                        simplifiedStatement = "";
+                        simplifiedStatement.setLength(0);
                     } else {
                         recorder.confirm();
                     }
@@ -166,34 +229,45 @@ public abstract class Parser {
 
 
                     ));
-                    tokens.clear();
+                    tokenCount = 0;
                     recorder.start();
                     statementLine = tracker.getLine();
                     statementCol = tracker.getCol();
-                    simplifiedStatement = "";
+                    simplifiedStatement.setLength(0);
                     continue;
                 }
 
                 if (shouldDiscard(token, nonCommentPartPos >= 0)) {
-                    tokens.clear();
+                    tokenCount = 0;
                     recorder.start();
                     statementLine = tracker.getLine();
                     statementCol = tracker.getCol();
-                    simplifiedStatement = "";
+                    simplifiedStatement.setLength(0);
                     continue;
                 }
 
                 int parensDepth = token.getParensDepth();
                 if (tokenType == TokenType.KEYWORD && parensDepth == 0) {
                     keywords.add(token);
+                    keywordCount++;
+                    if (keywordCount > getTransactionalDetectionCutoff() && keywords.size() >= 2 * KEYWORD_WINDOW) {
+                        keywords.subList(0, keywords.size() - KEYWORD_WINDOW).clear();
+                    }
                     adjustBlockDepth(context, keywords);
+
+                    if (keywordCount == 1) {
+                        batchable = BATCHABLE_KEYWORDS.contains(token.getText());
+                    } else if (batchable && RESULT_KEYWORDS.contains(token.getText())) {
+                        // Statements returning results can't be part of a batch
+                        batchable = false;
+                    }
                 }
 
                 int blockDepth = context.getBlockDepth();
                 if (TokenType.EOF == tokenType
                         || (TokenType.DELIMITER == tokenType && parensDepth == 0 && blockDepth == 0)) {
                     String sql = recorder.stop();
-                    if (TokenType.EOF == tokenType && (sql.length() == 0 || tokens.isEmpty() || nonCommentPartPos < 0)) {
+                    if (TokenType.EOF == tokenType && (sql.length() == 0 || tokenCount == 0 || nonCommentPartPos < 0)) {
                         return null;
                     }
                     if (canExecuteInTransaction == null) {
@@ -208,9 +282,9 @@ public abstract class Parser {
                         throw new FlywayException("Incomplete statement at line " + statementLine
                                 + " col " + statementCol + ": " + sql);
                     }
-                    return createStatement(reader, recorder, statementPos, statementLine, statementCol,
+                    return createStatement(resource, reader, context, recorder, statementPos, statementLine, statementCol,
                             nonCommentPartPos, nonCommentPartLine, nonCommentPartCol,
-                            statementType, canExecuteInTransaction, context.getDelimiter(), sql
+                            statementType, canExecuteInTransaction, batchable, context.getDelimiter(), sql
 
 
 
@@ -222,15 +296,15 @@ public abstract class Parser {
                     nonCommentPartLine = token.getLine();
                     nonCommentPartCol = token.getCol();
                 }
-                if (tokens.isEmpty()) {
+                if (tokenCount == 0) {
                     statementPos = token.getPos();
                     statementLine = token.getLine();
                     statementCol = token.getCol();
                 }
-                tokens.add(token);
+                tokenCount++;
                 recorder.confirm();
 
-                if (keywords.size() <= getTransactionalDetectionCutoff()
+                if (keywordCount <= getTransactionalDetectionCutoff()
                         && (tokenType == TokenType.KEYWORD
 
 
@@ -238,25 +312,18 @@ public abstract class Parser {
                 )
                         && parensDepth == 0
                         && (statementType == null || canExecuteInTransaction == null)) {
-                    if (!simplifiedStatement.isEmpty()) {
-                        simplifiedStatement += " ";
+                    if (simplifiedStatement.length() > 0) {
+                        simplifiedStatement.append(' ');
                     }
-                    simplifiedStatement += keywordToUpperCase(token.getText());
+                    simplifiedStatement.append(keywordToUpperCase(token.getText()));
+                    String simplified = simplifiedStatement.toString();
 
                     if (statementType == null) {
-                        if (keywords.size() > getTransactionalDetectionCutoff()) {
-                            statementType = StatementType.GENERIC;
-                        } else {
-                            statementType = detectStatementType(simplifiedStatement);
-                        }
+                        statementType = detectStatementType(simplified);
                         adjustDelimiter(context, statementType);
                     }
                     if (canExecuteInTransaction == null) {
-                        if (keywords.size() > getTransactionalDetectionCutoff()) {
-                            canExecuteInTransaction = true;
-                        } else {
-                            canExecuteInTransaction = detectCanExecuteInTransaction(simplifiedStatement, keywords);
-                        }
+                        canExecuteInTransaction = detectCanExecuteInTransaction(simplified, keywords);
                     }
 
 
@@ -336,17 +403,18 @@ public abstract class Parser {
         return false;
     }
 
-    protected ParsedSqlStatement createStatement(PeekingReader reader, Recorder recorder,
+    protected ParsedSqlStatement createStatement(LoadableResource resource, PeekingReader reader,
+                                                 ParserContext context, Recorder recorder,
                                                  int statementPos, int statementLine, int statementCol,
                                                  int nonCommentPartPos, int nonCommentPartLine, int nonCommentPartCol,
                                                  StatementType statementType, boolean canExecuteInTransaction,
-                                                 Delimiter delimiter, String sql
+                                                 boolean batchable, Delimiter delimiter, String sql
 
 
 
     ) throws IOException {
         return new ParsedSqlStatement(statementPos, statementLine, statementCol,
-                sql, delimiter, canExecuteInTransaction
+                sql, delimiter, canExecuteInTransaction, batchable
 
 
 
@@ -366,6 +434,12 @@ public abstract class Parser {
         int line = tracker.getLine();
         int col = tracker.getCol();
 
+        if (reader.peek(' ')) {
+            // Fast path for the most common char, which never starts a literal, comment, directive or delimiter
+            reader.swallow();
+            return null;
+        }
+
         String peek = reader.peek(peekDepth);
         if (peek == null) {
             return new Token(TokenType.EOF, pos, line, col, null, null, 0);
@@ -426,7 +500,7 @@ public abstract class Parser {
             return handleDelimiter(reader, context, pos, line, col);
         }
         if (c == '_' || Character.isLetter(c)) {
-            String text = "" + (char) reader.read() + reader.readKeywordPart();
+            String text = reader.readKeywordPart();
             if (reader.peek('.')) {
                 text += readAdditionalIdentifierParts(reader, identifierQuote);
             }
@@ -436,12 +510,9 @@ public abstract class Parser {
             return handleKeyword(reader, context, pos, line, col, text);
         }
         if (StringUtils.isCharAnyOf(c, ",=*.:;[]~+-/%^|!@$&#<>'{}")) {
-            String text = "" + (char) reader.read();
-            return new Token(TokenType.SYMBOL, pos, line, col, text, text, context.getParensDepth());
-        }
-        if (c == ' ') {
             reader.swallow();
-            return null;
+            String text = ASCII_STRINGS[c];
+            return new Token(TokenType.SYMBOL, pos, line, col, text, text, context.getParensDepth());
         }
         if (Character.isWhitespace(c)) {
             String text = reader.readWhitespace();
@@ -583,7 +654,6 @@ public abstract class Parser {
             this.recorder = recorder;
             this.tracker = tracker;
             this.context = context;
-            nextStatement = getNextStatement(resource, peekingReader, recorder, tracker, context);
         }
 
         @Override
@@ -593,20 +663,29 @@ public abstract class Parser {
 
         private SqlStatement nextStatement;
 
+        /**
+         * Whether the next statement has already been parsed. It is only parsed once it is asked for, so a statement
+         * can still read data following it in the source, such as the rows of a COPY statement, when it is executed.
+         */
+        private boolean nextStatementParsed;
+
         @Override
         public boolean hasNext() {
+            if (!nextStatementParsed) {
+                nextStatement = getNextStatement(resource, peekingReader, recorder, tracker, context);
+                nextStatementParsed = true;
+            }
             return nextStatement != null;
         }
 
         @Override
         public SqlStatement next() {
-            if (nextStatement == null) {
+            if (!hasNext()) {
                 throw new NoSuchElementException("No more statements in " + resource.getFilename());
             }
 
-            SqlStatement result = nextStatement;
-            nextStatement = getNextStatement(resource, peekingReader, recorder, tracker, context);
-            return result;
+            nextStatementParsed = false;
+            return nextStatement;
         }
 
         @Override
@@ -18,15 +18,34 @@ package org.flywaydb.core.internal.parser;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
 
+import java.io.Closeable;
+import java.io.IOException;
+
 public class ParserContext {
     private int parensDepth = 0;
     private int blockDepth = 0;
     private Delimiter delimiter;
 
+    /**
+     * The data following the last statement in the source, which must be skipped before parsing the next statement,
+     * or {@code null} if there is none.
+     */
+    private Closeable statementData;
+
+    /**
+     * The rereader for the data of the statements the parser has moved past, or {@code null} if there is none.
+     */
+    private SourceRereader sourceRereader;
+
     public ParserContext(Delimiter delimiter) {
         this.delimiter = delimiter;
     }
 
+    ParserContext(Delimiter delimiter, SourceRereader sourceRereader) {
+        this.delimiter = delimiter;
+        this.sourceRereader = sourceRereader;
+    }
+
     public void increaseParensDepth() {
         parensDepth++;
     }
@@ -61,4 +80,33 @@ public class ParserContext {
     public void setDelimiter(Delimiter delimiter) {
         this.delimiter = delimiter;
     }
+
+    /**
+     * Sets the data following the last statement in the source, such as the rows of a PostgreSQL COPY FROM STDIN
+     * statement. Closing it must skip whatever part of it hasn't been read yet.
+     *
+     * @param statementData The data of the last statement.
+     */
+    public void setStatementData(Closeable statementData) {
+        this.statementData = statementData;
+    }
+
+    /**
+     * @return The rereader for the data of the statements the parser has moved past, shared by all statements of the
+     * source, or {@code null} if there is none.
+     */
+    public SourceRereader getSourceRereader() {
+        return sourceRereader;
+    }
+
+    /**
+     * Skips the data following the last statement, if any, so the next statement can be parsed.
+     */
+    void skipStatementData() throws IOException {
+        if (statementData != null) {
+            Closeable data = statementData;
+            statementData = null;
+            data.close();
+        }
+    }
 }
\ No newline at end of file
@@ -19,60 +19,194 @@ import java.io.FilterReader;
 import java.io.IOException;
 import java.io.Reader;
 
+/**
+ * Reader operating on a block-buffered window of characters, allowing the parser to peek ahead without mark/reset.
+ * Consumed characters are reported to the position tracker and the recorder in bulk.
+ */
 public class PeekingReader extends FilterReader {
-    private final int[] peekBuffer = new int[256];
-    private int peekMax = 0;
-    private int peekBufferOffset = 0;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final PositionTracker tracker;
+    private final Recorder recorder;
+
+    private char[] buffer = new char[BUFFER_SIZE];
+
+    /**
+     * The position of the next character to read in the buffer.
+     */
+    private int bufferPos;
+
+    /**
+     * The number of valid characters in the buffer.
+     */
+    private int bufferLimit;
+
+    /**
+     * The position up to which consumed characters have been reported to the tracker and the recorder.
+     */
+    private int committedPos;
 
-    PeekingReader(Reader in) {
+    private boolean eof;
+
+    PeekingReader(Reader in, PositionTracker tracker, Recorder recorder) {
         super(in);
+        this.tracker = tracker;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Ensures at least this number of characters is available in the buffer, unless the end of the stream is reached.
+     *
+     * @param numChars The number of characters.
+     * @return {@code true} if they are, {@code false} if the stream ends before.
+     */
+    private boolean fill(int numChars) throws IOException {
+        if (bufferLimit - bufferPos >= numChars) {
+            return true;
+        }
+        if (eof) {
+            return false;
+        }
+
+        commit();
+        int remaining = bufferLimit - bufferPos;
+        if (numChars > buffer.length) {
+            char[] newBuffer = new char[Math.max(numChars, buffer.length * 2)];
+            System.arraycopy(buffer, bufferPos, newBuffer, 0, remaining);
+            buffer = newBuffer;
+        } else if (bufferPos > 0) {
+            System.arraycopy(buffer, bufferPos, buffer, 0, remaining);
+        }
+        bufferPos = 0;
+        committedPos = 0;
+        bufferLimit = remaining;
+
+        while (bufferLimit < numChars) {
+            int read = in.read(buffer, bufferLimit, buffer.length - bufferLimit);
+            if (read == -1) {
+                eof = true;
+                return false;
+            }
+            bufferLimit += read;
+        }
+        return true;
+    }
+
+    /**
+     * Reports all characters consumed since the last commit to the position tracker and the recorder.
+     */
+    private void commit() {
+        if (committedPos == bufferPos) {
+            return;
+        }
+        for (int i = committedPos; i < bufferPos; i++) {
+            tracker.nextPos();
+            char c = buffer[i];
+            if (c == '\n') {
+                tracker.linefeed();
+            } else if (c == '\r') {
+                tracker.carriageReturn();
+            } else {
+                tracker.nextCol();
+            }
+        }
+        recorder.record(buffer, committedPos, bufferPos - committedPos);
+        committedPos = bufferPos;
+    }
+
+    /**
+     * @return The line of the next character to read.
+     */
+    public int getLine() {
+        commit();
+        return tracker.getLine();
     }
 
     @Override
     public int read() throws IOException {
-        peekBufferOffset++;
-        return super.read();
+        if (!fill(1)) {
+            return -1;
+        }
+        char c = buffer[bufferPos++];
+        commit();
+        return c;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill(1)) {
+            return -1;
+        }
+        int count = Math.min(len, bufferLimit - bufferPos);
+        System.arraycopy(buffer, bufferPos, cbuf, off, count);
+        bufferPos += count;
+        commit();
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && fill(1)) {
+            int count = (int) Math.min(n - skipped, bufferLimit - bufferPos);
+            bufferPos += count;
+            skipped += count;
+        }
+        commit();
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return bufferPos < bufferLimit || in.ready();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
     }
 
     /**
      * Swallows the next character.
      */
     public void swallow() throws IOException {
-        //noinspection ResultOfMethodCallIgnored
-        read();
+        if (fill(1)) {
+            bufferPos++;
+            commit();
+        }
     }
 
     /**
      * Swallows the next n characters.
      */
     public void swallow(int n) throws IOException {
-        for (int i = 0; i < n; i++) {
-            //noinspection ResultOfMethodCallIgnored
-            read();
+        int remaining = n;
+        while (remaining > 0 && fill(1)) {
+            int count = Math.min(remaining, bufferLimit - bufferPos);
+            bufferPos += count;
+            remaining -= count;
         }
+        commit();
     }
 
     private int peek() throws IOException {
-        if (peekBufferOffset >= peekMax) {
-            refillPeekBuffer();
+        if (!fill(1)) {
+            return -1;
         }
-
-        return peekBuffer[peekBufferOffset];
-    }
-
-    private void refillPeekBuffer() throws IOException {
-        mark(peekBuffer.length);
-        peekMax = peekBuffer.length;
-        peekBufferOffset = 0;
-        for (int i = 0; i < peekBuffer.length; i++) {
-            int read = super.read();
-            peekBuffer[i] = read;
-            if (read == '\n') {
-                peekMax = i;
-                break;
-            }
-        }
-        reset();
+        return buffer[bufferPos];
     }
 
     /**
@@ -147,7 +281,16 @@ public class PeekingReader extends FilterReader {
      * @return {@code true} if they do, {@code false} if not.
      */
     public boolean peek(String str) throws IOException {
-        return str.equals(peek(str.length()));
+        int length = str.length();
+        if (!fill(length)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[bufferPos + i] != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -157,22 +300,12 @@ public class PeekingReader extends FilterReader {
      * @return The characters.
      */
     public String peek(int numChars) throws IOException {
-        if (peekBufferOffset + numChars >= peekMax) {
-            refillPeekBuffer();
-        }
-
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < numChars; i++) {
-            int r = peekBuffer[peekBufferOffset + i];
-            if (r == -1) {
-                break;
-            }
-            result.append((char) r);
-        }
-        if (result.length() == 0) {
+        fill(numChars);
+        int available = Math.min(numChars, bufferLimit - bufferPos);
+        if (available <= 0) {
             return null;
         }
-        return result.toString();
+        return new String(buffer, bufferPos, available);
     }
 
     /**
@@ -182,15 +315,14 @@ public class PeekingReader extends FilterReader {
      * @param delimiter2 The second delimiting character.
      */
     public void swallowUntilExcluding(char delimiter1, char delimiter2) throws IOException {
-        do {
-            if (peek(delimiter1, delimiter2)) {
-                break;
-            }
-            int r = read();
-            if (r == -1) {
+        while (fill(1)) {
+            int end = indexOf(delimiter1, delimiter2);
+            bufferPos = end;
+            if (end < bufferLimit) {
                 break;
             }
-        } while (true);
+        }
+        commit();
     }
 
     /**
@@ -202,18 +334,33 @@ public class PeekingReader extends FilterReader {
      */
     public String readUntilExcluding(char delimiter1, char delimiter2) throws IOException {
         StringBuilder result = new StringBuilder();
-        do {
-            if (peek(delimiter1, delimiter2)) {
+        while (fill(1)) {
+            int end = indexOf(delimiter1, delimiter2);
+            result.append(buffer, bufferPos, end - bufferPos);
+            bufferPos = end;
+            if (end < bufferLimit) {
                 break;
             }
-            int r = read();
-            if (r == -1) {
+        }
+        commit();
+        return result.toString();
+    }
+
+    /**
+     * Finds the next occurrence of either of these characters within the currently buffered characters.
+     *
+     * @return The position of the character in the buffer, or the buffer limit if there is none.
+     */
+    private int indexOf(char c1, char c2) {
+        int i = bufferPos;
+        while (i < bufferLimit) {
+            char c = buffer[i];
+            if (c == c1 || c == c2) {
                 break;
-            } else {
-                result.append((char) r);
             }
-        } while (true);
-        return result.toString();
+            i++;
+        }
+        return i;
     }
 
     /**
@@ -236,24 +383,23 @@ public class PeekingReader extends FilterReader {
      * @param escape     A separate escape character.
      */
     public void swallowUntilExcludingWithEscape(char delimiter, boolean selfEscape, char escape) throws IOException {
-        do {
-            int r = read();
-            if (r == -1) {
-                break;
-            }
-            char c = (char) r;
+        while (fill(1)) {
+            char c = buffer[bufferPos++];
             if (escape != 0 && c == escape) {
-                swallow();
+                if (fill(1)) {
+                    bufferPos++;
+                }
                 continue;
             }
             if (c == delimiter) {
-                if (selfEscape && peek(delimiter)) {
-                    swallow();
+                if (selfEscape && fill(1) && buffer[bufferPos] == delimiter) {
+                    bufferPos++;
                     continue;
                 }
                 break;
             }
-        } while (true);
+        }
+        commit();
     }
 
     /**
@@ -279,31 +425,27 @@ public class PeekingReader extends FilterReader {
      */
     public String readUntilExcludingWithEscape(char delimiter, boolean selfEscape, char escape) throws IOException {
         StringBuilder result = new StringBuilder();
-        do {
-            int r = read();
-            if (r == -1) {
-                break;
-            }
-            char c = (char) r;
+        while (fill(1)) {
+            char c = buffer[bufferPos++];
             if (escape != 0 && c == escape) {
-                int r2 = read();
-                if (r2 == -1) {
+                if (!fill(1)) {
                     result.append(escape);
                     break;
                 }
-                char c2 = (char) r2;
-                result.append(c2);
+                result.append(buffer[bufferPos++]);
                 continue;
             }
             if (c == delimiter) {
-                if (selfEscape && peek(delimiter)) {
+                if (selfEscape && fill(1) && buffer[bufferPos] == delimiter) {
                     result.append(delimiter);
+                    bufferPos++;
                     continue;
                 }
                 break;
             }
             result.append(c);
-        } while (true);
+        }
+        commit();
         return result.toString();
     }
 
@@ -313,15 +455,10 @@ public class PeekingReader extends FilterReader {
      * @param str The delimiting string.
      */
     public void swallowUntilExcluding(String str) throws IOException {
-        do {
-            if (peek(str)) {
-                break;
-            }
-            int r = read();
-            if (r == -1) {
-                break;
-            }
-        } while (true);
+        while (!peek(str) && fill(1)) {
+            bufferPos++;
+        }
+        commit();
     }
 
     /**
@@ -332,17 +469,10 @@ public class PeekingReader extends FilterReader {
      */
     public String readUntilExcluding(String str) throws IOException {
         StringBuilder result = new StringBuilder();
-        do {
-            if (peek(str)) {
-                break;
-            }
-            int r = read();
-            if (r == -1) {
-                break;
-            } else {
-                result.append((char) r);
-            }
-        } while (true);
+        while (!peek(str) && fill(1)) {
+            result.append(buffer[bufferPos++]);
+        }
+        commit();
         return result.toString();
     }
 
@@ -354,17 +484,18 @@ public class PeekingReader extends FilterReader {
      */
     public String readUntilIncluding(char delimiter) throws IOException {
         StringBuilder result = new StringBuilder();
-        do {
-            int r = read();
-            if (r == -1) {
-                break;
+        while (fill(1)) {
+            int end = indexOf(delimiter, delimiter);
+            if (end < bufferLimit) {
+                end++;
             }
-            char c = (char) r;
-            result.append(c);
-            if (c == delimiter) {
+            result.append(buffer, bufferPos, end - bufferPos);
+            bufferPos = end;
+            if (buffer[end - 1] == delimiter) {
                 break;
             }
-        } while (true);
+        }
+        commit();
         return result.toString();
     }
 
@@ -375,13 +506,17 @@ public class PeekingReader extends FilterReader {
      */
     public String readKeywordPart() throws IOException {
         StringBuilder result = new StringBuilder();
-        do {
-            if (peekKeywordPart()) {
-                result.append((char) read());
-            } else {
+        while (fill(1)) {
+            int start = bufferPos;
+            while (bufferPos < bufferLimit && isKeywordPart(buffer[bufferPos])) {
+                bufferPos++;
+            }
+            result.append(buffer, start, bufferPos - start);
+            if (bufferPos < bufferLimit) {
                 break;
             }
-        } while (true);
+        }
+        commit();
         return result.toString();
     }
 
@@ -389,12 +524,15 @@ public class PeekingReader extends FilterReader {
      * Swallows all characters in this stream as long as they can be part of a numeric constant.
      */
     public void swallowNumeric() throws IOException {
-        do {
-            if (!peekNumeric()) {
-                return;
+        while (fill(1)) {
+            while (bufferPos < bufferLimit && isNumeric(buffer[bufferPos])) {
+                bufferPos++;
+            }
+            if (bufferPos < bufferLimit) {
+                break;
             }
-            swallow();
-        } while (true);
+        }
+        commit();
     }
 
     /**
@@ -404,13 +542,17 @@ public class PeekingReader extends FilterReader {
      */
     public String readNumeric() throws IOException {
         StringBuilder result = new StringBuilder();
-        do {
-            if (peekNumeric()) {
-                result.append((char) read());
-            } else {
+        while (fill(1)) {
+            int start = bufferPos;
+            while (bufferPos < bufferLimit && isNumeric(buffer[bufferPos])) {
+                bufferPos++;
+            }
+            result.append(buffer, start, bufferPos - start);
+            if (bufferPos < bufferLimit) {
                 break;
             }
-        } while (true);
+        }
+        commit();
         return result.toString();
     }
 
@@ -421,13 +563,17 @@ public class PeekingReader extends FilterReader {
      */
     public String readWhitespace() throws IOException {
         StringBuilder result = new StringBuilder();
-        do {
-            if (peekWhitespace()) {
-                result.append((char) read());
-            } else {
+        while (fill(1)) {
+            int start = bufferPos;
+            while (bufferPos < bufferLimit && isWhitespace(buffer[bufferPos])) {
+                bufferPos++;
+            }
+            result.append(buffer, start, bufferPos - start);
+            if (bufferPos < bufferLimit) {
                 break;
             }
-        } while (true);
+        }
+        commit();
         return result.toString();
     }
-}
\ No newline at end of file
+}
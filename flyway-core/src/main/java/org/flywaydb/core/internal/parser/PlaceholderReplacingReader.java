@@ -23,140 +23,190 @@ import java.io.Reader;
 import java.util.Map;
 
 public class PlaceholderReplacingReader extends FilterReader {
+    private static final int BUFFER_SIZE = 4096;
+
     private final String prefix;
     private final String suffix;
     private final Map<String, String> placeholders;
 
     /**
-     * The number of chars by which to increase the read-ahead limit to factor in the difference in length between
-     * placeholders (with prefix and suffix) and their replacements.
+     * The first character of the prefix, used to quickly skip over text that can't contain a placeholder.
      */
-    private final int readAheadLimitAdjustment;
+    private final char prefixStart;
 
-    private final StringBuilder buffer = new StringBuilder();
-    private String markBuffer;
+    /**
+     * The characters read from the underlying reader, but not yet processed.
+     */
+    private char[] buffer = new char[BUFFER_SIZE];
+    private int bufferPos;
+    private int bufferLimit;
+    private boolean eof;
 
     private String replacement;
     private int replacementPos;
 
-    private String markReplacement;
-    private int markReplacementPos;
+    private final char[] singleChar = new char[1];
 
     public PlaceholderReplacingReader(String prefix, String suffix, Map<String, String> placeholders, Reader in) {
         super(in);
         this.prefix = prefix;
         this.suffix = suffix;
         this.placeholders = placeholders;
-
-        int prefixSuffixLength = prefix.length() + suffix.length();
-        int maxPlaceholderLength = prefixSuffixLength;
-        int minReplacementLength = Integer.MAX_VALUE;
-        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-            maxPlaceholderLength = Math.max(maxPlaceholderLength, prefixSuffixLength + entry.getKey().length());
-            minReplacementLength = Math.min(minReplacementLength, entry.getValue().length());
-        }
-        readAheadLimitAdjustment = Math.max(maxPlaceholderLength - minReplacementLength, 0);
+        this.prefixStart = prefix.charAt(0);
     }
 
     @Override
     public int read() throws IOException {
-        if (replacement == null) {
-            if (buffer.length() > 0) {
-                char c = buffer.charAt(0);
-                buffer.deleteCharAt(0);
-                return c;
-            }
+        return read(singleChar, 0, 1) == -1 ? -1 : singleChar[0];
+    }
 
-            int r;
-            do {
-                r = super.read();
-                if (r == -1) {
-                    break;
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int count = 0;
+        while (count < len) {
+            if (replacement != null) {
+                int n = Math.min(len - count, replacement.length() - replacementPos);
+                replacement.getChars(replacementPos, replacementPos + n, cbuf, off + count);
+                count += n;
+                replacementPos += n;
+                if (replacementPos >= replacement.length()) {
+                    replacement = null;
+                    replacementPos = 0;
                 }
+                continue;
+            }
 
-                buffer.append((char) r);
-            } while (buffer.length() < prefix.length() && endsWith(buffer, prefix.substring(0, buffer.length())));
-            if (!endsWith(buffer, prefix)) {
-                if (buffer.length() > 0) {
-                    char c = buffer.charAt(0);
-                    buffer.deleteCharAt(0);
-                    return c;
-                }
-                return -1;
+            if (!fill(1)) {
+                break;
             }
-            buffer.delete(0, buffer.length());
 
-            StringBuilder placeholder = new StringBuilder();
-            do {
-                int r1 = in.read();
-                if (r1 == -1) {
-                    break;
+            // Copy everything up to the next potential prefix in one go
+            int end = Math.min(bufferLimit, bufferPos + len - count);
+            int start = bufferPos;
+            while (bufferPos < end && buffer[bufferPos] != prefixStart) {
+                bufferPos++;
+            }
+            int n = bufferPos - start;
+            System.arraycopy(buffer, start, cbuf, off + count, n);
+            count += n;
+
+            if (bufferPos < end) {
+                if (startsWith(prefix)) {
+                    bufferPos += prefix.length();
+                    startReplacement(readPlaceholder());
                 } else {
-                    placeholder.append((char) r1);
+                    cbuf[off + count++] = buffer[bufferPos++];
                 }
-            } while (!endsWith(placeholder, suffix));
-            for (int i = 0; i < suffix.length(); i++) {
-                placeholder.deleteCharAt(placeholder.length() - 1);
             }
+        }
+        return count == 0 && len > 0 ? -1 : count;
+    }
 
-            replacement = placeholders.get(placeholder.toString());
-            if (replacement == null) {
-                throw new FlywayException("No value provided for placeholder: "
-                        + prefix + placeholder + suffix
-                        + ".  Check your configuration!");
+    /**
+     * Reads the name of the placeholder whose prefix has just been consumed, including its suffix.
+     *
+     * @return The name of the placeholder.
+     */
+    private String readPlaceholder() throws IOException {
+        StringBuilder placeholder = new StringBuilder();
+        while (true) {
+            if (!fill(suffix.length())) {
+                // Unterminated placeholder: consume the remainder as its name
+                placeholder.append(buffer, bufferPos, bufferLimit - bufferPos);
+                bufferPos = bufferLimit;
+                return placeholder.toString();
             }
+            if (startsWith(suffix)) {
+                bufferPos += suffix.length();
+                return placeholder.toString();
+            }
+            placeholder.append(buffer[bufferPos++]);
         }
+    }
 
-        int result = replacement.charAt(replacementPos);
-        replacementPos++;
-        if (replacementPos >= replacement.length()) {
-            replacement = null;
+    private void startReplacement(String placeholder) {
+        String value = placeholders.get(placeholder);
+        if (value == null) {
+            throw new FlywayException("No value provided for placeholder: "
+                    + prefix + placeholder + suffix
+                    + ".  Check your configuration!");
+        }
+        if (!value.isEmpty()) {
+            replacement = value;
             replacementPos = 0;
         }
-        return result;
     }
 
-    @Override
-    public int read(char[] cbuf, int off, int len) throws IOException {
-        int count = 0;
-        for (int i = 0; i < len; i++) {
-            int r = read();
-            if (r == -1) {
-                return count == 0 ? -1 : count;
-            }
-            cbuf[off + i] = (char) r;
-            count++;
+    /**
+     * Ensures at least this number of characters is available in the buffer, unless the end of the stream is reached.
+     *
+     * @param numChars The number of characters.
+     * @return {@code true} if they are, {@code false} if the stream ends before.
+     */
+    private boolean fill(int numChars) throws IOException {
+        if (bufferLimit - bufferPos >= numChars) {
+            return true;
+        }
+        if (eof) {
+            return false;
         }
-        return count;
-    }
 
-    @Override
-    public void mark(int readAheadLimit) throws IOException {
-        markBuffer = buffer.toString();
-        markReplacement = replacement;
-        markReplacementPos = replacementPos;
-        super.mark(readAheadLimit + readAheadLimitAdjustment);
-    }
+        int remaining = bufferLimit - bufferPos;
+        if (numChars > buffer.length) {
+            char[] newBuffer = new char[Math.max(numChars, buffer.length * 2)];
+            System.arraycopy(buffer, bufferPos, newBuffer, 0, remaining);
+            buffer = newBuffer;
+        } else if (bufferPos > 0) {
+            System.arraycopy(buffer, bufferPos, buffer, 0, remaining);
+        }
+        bufferPos = 0;
+        bufferLimit = remaining;
 
-    @Override
-    public void reset() throws IOException {
-        super.reset();
-        buffer.delete(0, buffer.length());
-        buffer.append(markBuffer);
-        replacement = markReplacement;
-        replacementPos = markReplacementPos;
+        while (bufferLimit < numChars) {
+            int read = in.read(buffer, bufferLimit, buffer.length - bufferLimit);
+            if (read == -1) {
+                eof = true;
+                return false;
+            }
+            bufferLimit += read;
+        }
+        return true;
     }
 
-    private boolean endsWith(StringBuilder result, String str) {
-        if (result.length() < str.length()) {
+    private boolean startsWith(String str) throws IOException {
+        if (!fill(str.length())) {
             return false;
         }
-
         for (int i = 0; i < str.length(); i++) {
-            if (result.charAt(result.length() - str.length() + i) != str.charAt(i)) {
+            if (buffer[bufferPos + i] != str.charAt(i)) {
                 return false;
             }
         }
         return true;
     }
-}
\ No newline at end of file
+
+    @Override
+    public long skip(long n) throws IOException {
+        throw new IOException("skip() not supported");
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return replacement != null || bufferPos < bufferLimit || in.ready();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
+}
@@ -16,7 +16,11 @@
 package org.flywaydb.core.internal.parser;
 
 public class Recorder {
-    private StringBuilder recorder;
+    /**
+     * The buffer holding the recording. Reused across recordings so its capacity only grows to the largest statement.
+     */
+    private final StringBuilder recorder = new StringBuilder();
+    private boolean recording = false;
     private boolean recorderPaused = false;
     private int recorderConfirmedPos = 0;
 
@@ -26,6 +30,12 @@ public class Recorder {
         }
     }
 
+    public void record(char[] chars, int offset, int length) {
+        if (isRunninng()) {
+            recorder.append(chars, offset, length);
+        }
+    }
+
     public int length() {
         return recorder.length();
     }
@@ -37,11 +47,12 @@ public class Recorder {
     }
 
     private boolean isRunninng() {
-        return recorder != null && !recorderPaused;
+        return recording && !recorderPaused;
     }
 
     public void start() {
-        recorder = new StringBuilder();
+        recorder.setLength(0);
+        recording = true;
         recorderConfirmedPos = 0;
         recorderPaused = false;
     }
@@ -65,10 +76,9 @@ public class Recorder {
 
     public String stop() {
         // Drop unconfirmed parts of recording
-        recorder.delete(recorderConfirmedPos, recorder.length());
-
-        String result = recorder.toString();
-        recorder = null;
+        String result = recorder.substring(0, recorderConfirmedPos);
+        recorder.setLength(0);
+        recording = false;
         return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.parser;
+
+import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.util.IOUtils;
+
+import java.io.IOException;
+
+/**
+ * Reads a source again the same way as when parsing it, for the data of statements the parser has already moved past,
+ * such as the rows of a PostgreSQL COPY FROM STDIN statement.
+ * <p>As this data is read in the order of its statements, a single reader moving forward through the source is shared
+ * by all of it. The source is therefore read again at most once, instead of once from its start for each statement.
+ * The reader is closed once the data registered last has been read, or when data has been left unfinished.</p>
+ */
+public class SourceRereader {
+    private final Parser parser;
+    private final LoadableResource resource;
+
+    /**
+     * The line at which the data registered last starts.
+     */
+    private int lastLine;
+
+    /**
+     * The shared reader, or {@code null} if it isn't open.
+     */
+    private PeekingReader reader;
+
+    SourceRereader(Parser parser, LoadableResource resource) {
+        this.parser = parser;
+        this.resource = resource;
+    }
+
+    /**
+     * Registers data starting at this line, which may have to be read again later.
+     *
+     * @param line The line at which the data starts.
+     */
+    public void register(int line) {
+        lastLine = Math.max(lastLine, line);
+    }
+
+    /**
+     * Positions the shared reader at the start of this line, moving it forward if it is still before it, or reading
+     * the source again from its start otherwise.
+     *
+     * @param line The line to start at.
+     * @return The shared reader. It must not be closed, but released once done with.
+     * @throws IOException when the source could not be read.
+     */
+    public PeekingReader readFromLine(int line) throws IOException {
+        if (reader != null && reader.getLine() > line) {
+            close();
+        }
+        if (reader == null) {
+            reader = parser.readFromLine(resource, line);
+            return reader;
+        }
+        try {
+            for (int i = reader.getLine(); i < line; i++) {
+                reader.swallowUntilExcluding('\n', '\n');
+                reader.swallow();
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+        return reader;
+    }
+
+    /**
+     * Releases the shared reader after reading the data starting at this line.
+     *
+     * @param line     The line at which the data starts.
+     * @param finished Whether the data has been read up to its end.
+     */
+    public void release(int line, boolean finished) {
+        if (!finished || line >= lastLine) {
+            close();
+        }
+    }
+
+    private void close() {
+        IOUtils.close(reader);
+        reader = null;
+    }
+}
@@ -23,9 +23,11 @@ import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.clazz.ClassProvider;
 import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.resolver.csv.CsvMigrationResolver;
 import org.flywaydb.core.internal.resolver.java.FixedJavaMigrationResolver;
 import org.flywaydb.core.internal.resolver.java.ScanningJavaMigrationResolver;
 import org.flywaydb.core.internal.resolver.sql.SqlMigrationResolver;
+import org.flywaydb.core.internal.resource.ChecksumCache;
 import org.flywaydb.core.internal.resource.ResourceProvider;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
 
@@ -47,6 +49,11 @@ public class CompositeMigrationResolver implements MigrationResolver {
      */
     private Collection<MigrationResolver> migrationResolvers = new ArrayList<>();
 
+    /**
+     * The cache of the checksums of the migrations, shared by the resolvers, or {@code null} if disabled.
+     */
+    private final ChecksumCache checksumCache;
+
     /**
      * The available migrations, sorted by version, newest first. An empty list is returned when no migrations can be
      * found.
@@ -61,24 +68,25 @@ public class CompositeMigrationResolver implements MigrationResolver {
      * @param classProvider              The class provider.
      * @param configuration              The Flyway configuration.
      * @param sqlScriptFactory The SQL statement builder factory.
+     * @param callbackExecutor           The callback executor.
      * @param customMigrationResolvers   Custom Migration Resolvers.
      */
     public CompositeMigrationResolver(Database database,
                                       ResourceProvider resourceProvider,
                                       ClassProvider classProvider,
                                       Configuration configuration,
-                                      SqlScriptFactory sqlScriptFactory
-
-
-
-            , MigrationResolver... customMigrationResolvers
+                                      SqlScriptFactory sqlScriptFactory,
+                                      CallbackExecutor callbackExecutor,
+                                      MigrationResolver... customMigrationResolvers
     ) {
+        checksumCache = configuration.getChecksumCacheDirectory() == null
+                ? null
+                : new ChecksumCache(configuration.getChecksumCacheDirectory());
         if (!configuration.isSkipDefaultResolvers()) {
-            migrationResolvers.add(new SqlMigrationResolver(database, resourceProvider, sqlScriptFactory
-
-
-
-                    , configuration));
+            migrationResolvers.add(new SqlMigrationResolver(database, resourceProvider, sqlScriptFactory,
+                    callbackExecutor, configuration, checksumCache));
+            migrationResolvers.add(new CsvMigrationResolver(database, resourceProvider, configuration,
+                    checksumCache));
             migrationResolvers.add(new ScanningJavaMigrationResolver(classProvider, configuration));
         }
         migrationResolvers.add(new FixedJavaMigrationResolver(configuration.getJavaMigrations()));
@@ -110,6 +118,10 @@ public class CompositeMigrationResolver implements MigrationResolver {
      */
     private List<ResolvedMigration> doFindAvailableMigrations(Context context) throws FlywayException {
         List<ResolvedMigration> migrations = new ArrayList<>(collectMigrations(migrationResolvers, context));
+        if (checksumCache != null) {
+            // Only once all resolvers are done, as only the checksums used are written back
+            checksumCache.save();
+        }
         Collections.sort(migrations, new ResolvedMigrationComparator());
 
         checkForIncompatibilities(migrations);
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resolver.csv;
+
+import org.flywaydb.core.api.executor.Context;
+import org.flywaydb.core.api.executor.MigrationExecutor;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.resource.LoadableResource;
+
+/**
+ * Database migration loading the records of a CSV file into a table.
+ */
+public class CsvMigrationExecutor implements MigrationExecutor {
+    private static final Log LOG = LogFactory.getLog(CsvMigrationExecutor.class);
+
+    private final Database database;
+
+    /**
+     * The resource containing the CSV records.
+     */
+    private final LoadableResource resource;
+
+    /**
+     * The table to load the records into.
+     */
+    private final String table;
+
+    /**
+     * The character separating the fields of a record.
+     */
+    private final char delimiter;
+
+    /**
+     * Creates a new CSV migration based on this resource.
+     *
+     * @param database  The database-specific support.
+     * @param resource  The resource containing the CSV records.
+     * @param table     The table to load the records into.
+     * @param delimiter The character separating the fields of a record.
+     */
+    CsvMigrationExecutor(Database database, LoadableResource resource, String table, char delimiter) {
+        this.database = database;
+        this.resource = resource;
+        this.table = table;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    public void execute(Context context) {
+        long rows = database.createCsvLoader(new JdbcTemplate(context.getConnection()))
+                .load(resource, table, delimiter);
+        LOG.debug("Loaded " + rows + " rows from " + resource.getFilename() + " into " + table);
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resolver.csv;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationType;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.resolver.Context;
+import org.flywaydb.core.api.resolver.MigrationResolver;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.resolver.MigrationInfoHelper;
+import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
+import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
+import org.flywaydb.core.internal.resource.ChecksumCache;
+import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.resource.ResourceProvider;
+import org.flywaydb.core.internal.util.IOUtils;
+import org.flywaydb.core.internal.util.Pair;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Migration resolver for CSV files on the classpath. The CSV files must have names like D1__Description.csv or
+ * D1_1__Description.csv, using their own prefix and the same separator as versioned SQL migrations. The dedicated
+ * prefix keeps data files next to SQL migrations from being picked up as migrations.
+ * <p>The first record of a CSV file is its header, holding the names of the columns to load. The records are loaded
+ * into the table named after the description, unless a D1__Description.csv.conf file next to it specifies otherwise.
+ * This optional file is a properties file supporting these keys:</p>
+ * <ul>
+ * <li>{@code table}: The table to load the records into.</li>
+ * <li>{@code delimiter}: The character separating the fields of a record. Defaults to a comma.</li>
+ * </ul>
+ * <p>Its contents are part of the checksum of the migration.</p>
+ */
+public class CsvMigrationResolver implements MigrationResolver {
+    /**
+     * The suffix of CSV migrations.
+     */
+    private static final String CSV_SUFFIX = ".csv";
+
+    /**
+     * The suffix of the files configuring CSV migrations, appended to the name of the migration.
+     */
+    private static final String CONF_SUFFIX = ".conf";
+
+    /**
+     * Database-specific support.
+     */
+    private final Database database;
+
+    /**
+     * The resource provider to use.
+     */
+    private final ResourceProvider resourceProvider;
+
+    /**
+     * The Flyway configuration.
+     */
+    private final Configuration configuration;
+
+    /**
+     * The cache of the checksums of the migrations, shared with the other resolvers, or {@code null} if disabled.
+     */
+    private final ChecksumCache checksumCache;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param database         The database-specific support.
+     * @param resourceProvider The Scanner for loading migrations on the classpath.
+     * @param configuration    The Flyway configuration.
+     * @param checksumCache    The cache of the checksums of the migrations, saved by the caller once all migrations
+     *                         have been resolved, or {@code null} to disable it.
+     */
+    public CsvMigrationResolver(Database database, ResourceProvider resourceProvider, Configuration configuration,
+                                ChecksumCache checksumCache) {
+        this.database = database;
+        this.resourceProvider = resourceProvider;
+        this.configuration = configuration;
+        this.checksumCache = checksumCache;
+    }
+
+    @Override
+    public List<ResolvedMigration> resolveMigrations(Context context) {
+        List<ResolvedMigration> migrations = new ArrayList<>();
+
+        String prefix = configuration.getCsvMigrationPrefix();
+        Map<String, LoadableResource> confs = new HashMap<>();
+        for (LoadableResource conf : resourceProvider.getResources(prefix, new String[]{CSV_SUFFIX + CONF_SUFFIX})) {
+            confs.put(conf.getRelativePath(), conf);
+        }
+
+        for (LoadableResource resource : resourceProvider.getResources(prefix, new String[]{CSV_SUFFIX})) {
+            migrations.add(resolveMigration(resource, confs.get(resource.getRelativePath() + CONF_SUFFIX), prefix));
+        }
+
+        Collections.sort(migrations, new ResolvedMigrationComparator());
+        return migrations;
+    }
+
+    private ResolvedMigration resolveMigration(LoadableResource resource, LoadableResource conf, String prefix) {
+        String filename = resource.getFilename();
+        Pair<MigrationVersion, String> info = MigrationInfoHelper.extractVersionAndDescription(filename, prefix,
+                configuration.getSqlMigrationSeparator(), new String[]{CSV_SUFFIX}, false);
+
+        String table = info.getRight().replace(" ", "_");
+        char delimiter = ',';
+        int checksum = checksumCache == null ? resource.checksum() : checksumCache.checksum(resource);
+        if (conf != null) {
+            Properties properties = loadConf(conf);
+            table = properties.getProperty("table", table).trim();
+            String delimiterProp = properties.getProperty("delimiter");
+            if (delimiterProp != null) {
+                if (delimiterProp.length() != 1) {
+                    throw new FlywayException("Invalid delimiter in " + conf.getFilename() + ": '" + delimiterProp
+                            + "' (expected a single character)");
+                }
+                delimiter = delimiterProp.charAt(0);
+            }
+            checksum = 31 * checksum + conf.checksum();
+        }
+        if (table.isEmpty()) {
+            throw new FlywayException("Unable to determine the table to load " + filename + " into. Either add a"
+                    + " description to its name or specify the table in " + filename + CONF_SUFFIX);
+        }
+
+        ResolvedMigrationImpl migration = new ResolvedMigrationImpl();
+        migration.setVersion(info.getLeft());
+        migration.setDescription(info.getRight());
+        migration.setScript(resource.getRelativePath());
+        migration.setChecksum(checksum);
+        migration.setType(MigrationType.CSV);
+        migration.setPhysicalLocation(resource.getAbsolutePathOnDisk());
+        migration.setExecutor(new CsvMigrationExecutor(database, resource, table, delimiter));
+        return migration;
+    }
+
+    private static Properties loadConf(LoadableResource conf) {
+        Properties properties = new Properties();
+        Reader reader = null;
+        try {
+            reader = conf.read();
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new FlywayException("Unable to read " + conf.getFilename() + ": " + e.getMessage(), e);
+        } finally {
+            IOUtils.close(reader);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resolver.sql;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.schemahistory.CheckpointTable;
+import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Executes a non-transactional SQL migration in chunks of statements, each committed together with a checkpoint
+ * recording how many statements have been committed so far. A migration which failed or was interrupted is resumed
+ * right after its last checkpoint, provided the statements up to it are unchanged.
+ * <p>Statements which can't be executed in a transaction are executed on their own, each followed by a checkpoint of
+ * its own. Such a statement is executed again when the migration is interrupted right before its checkpoint. The same
+ * goes for statements causing an implicit commit, such as DDL on databases without DDL transactions.</p>
+ */
+class CheckpointSqlScriptExecutor implements SqlScriptExecutor {
+    private static final Log LOG = LogFactory.getLog(CheckpointSqlScriptExecutor.class);
+
+    /**
+     * The executor for the statements of each chunk.
+     */
+    private final SqlScriptExecutor sqlScriptExecutor;
+
+    /**
+     * The template for the connection of the migration.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * The table holding the checkpoints.
+     */
+    private final CheckpointTable checkpointTable;
+
+    /**
+     * The script of the migration, identifying its checkpoint.
+     */
+    private final String script;
+
+    /**
+     * The maximum number of statements per chunk.
+     */
+    private final int checkpointInterval;
+
+    /**
+     * Creates a new checkpoint executor.
+     *
+     * @param sqlScriptExecutor  The executor for the statements of each chunk.
+     * @param jdbcTemplate       The template for the connection of the migration.
+     * @param checkpointTable    The table holding the checkpoints.
+     * @param script             The script of the migration, identifying its checkpoint.
+     * @param checkpointInterval The maximum number of statements per chunk.
+     */
+    CheckpointSqlScriptExecutor(SqlScriptExecutor sqlScriptExecutor, JdbcTemplate jdbcTemplate,
+                                CheckpointTable checkpointTable, String script, int checkpointInterval) {
+        this.sqlScriptExecutor = sqlScriptExecutor;
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointTable = checkpointTable;
+        this.script = script;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public void execute(SqlScript sqlScript) {
+        Connection connection = jdbcTemplate.getConnection();
+        boolean autoCommit = getAutoCommit(connection);
+        CheckpointTable.Checkpoint checkpoint = checkpointTable.get(jdbcTemplate, script);
+
+        Progress progress = new Progress();
+        List<SqlStatement> chunk = new ArrayList<>();
+        try (SqlStatementIterator sqlStatementIterator = sqlScript.getSqlStatements()) {
+            if (checkpoint != null) {
+                while (progress.statementCount < checkpoint.getStatementCount() && sqlStatementIterator.hasNext()) {
+                    progress.add(sqlStatementIterator.next());
+                }
+                if (progress.statementCount < checkpoint.getStatementCount()
+                        || progress.getChecksum() != checkpoint.getChecksum()) {
+                    throw new FlywayException("Unable to resume migration " + script + " after statement "
+                            + checkpoint.getStatementCount() + " as the statements up to its checkpoint have changed."
+                            + " Please restore backups, or remove its checkpoint from " + checkpointTable
+                            + " to apply it from the start.");
+                }
+                LOG.info("Resuming migration " + script + " from its checkpoint after statement "
+                        + checkpoint.getStatementCount());
+            }
+
+            while (sqlStatementIterator.hasNext()) {
+                SqlStatement sqlStatement = sqlStatementIterator.next();
+                if (sqlStatement.canExecuteInTransaction()) {
+                    chunk.add(sqlStatement);
+                    if (chunk.size() >= checkpointInterval) {
+                        executeChunk(connection, sqlScript, chunk, progress, false);
+                    }
+                    continue;
+                }
+
+                executeChunk(connection, sqlScript, chunk, progress, false);
+                setAutoCommit(connection, true);
+                sqlScriptExecutor.execute(new Chunk(sqlScript, Collections.singletonList(sqlStatement)));
+                progress.add(sqlStatement);
+                checkpointTable.save(jdbcTemplate, script, progress.toCheckpoint());
+            }
+            executeChunk(connection, sqlScript, chunk, progress, true);
+        } catch (RuntimeException e) {
+            rollback(connection);
+            throw e;
+        } finally {
+            setAutoCommit(connection, autoCommit);
+        }
+    }
+
+    /**
+     * Executes these statements in a single transaction together with the checkpoint after them, and clears them.
+     *
+     * @param last Whether these are the last statements of the migration, in which case its checkpoint is removed
+     *             instead.
+     */
+    private void executeChunk(Connection connection, SqlScript sqlScript, List<SqlStatement> chunk, Progress progress,
+                              boolean last) {
+        if (chunk.isEmpty() && !last) {
+            return;
+        }
+
+        setAutoCommit(connection, false);
+        sqlScriptExecutor.execute(new Chunk(sqlScript, chunk));
+        for (SqlStatement sqlStatement : chunk) {
+            progress.add(sqlStatement);
+        }
+        chunk.clear();
+        if (last) {
+            checkpointTable.remove(jdbcTemplate, script);
+        } else {
+            checkpointTable.save(jdbcTemplate, script, progress.toCheckpoint());
+        }
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to commit statements of migration " + script + " up to statement "
+                    + progress.statementCount, e);
+        }
+        LOG.debug("Committed statements of migration " + script + " up to statement " + progress.statementCount);
+    }
+
+    private boolean getAutoCommit(Connection connection) {
+        try {
+            return connection.getAutoCommit();
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to determine auto-commit mode", e);
+        }
+    }
+
+    private void setAutoCommit(Connection connection, boolean autoCommit) {
+        try {
+            if (connection.getAutoCommit() != autoCommit) {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to " + (autoCommit ? "enable" : "disable") + " auto-commit", e);
+        }
+    }
+
+    /**
+     * Rolls back the statements executed since the last checkpoint, if they are part of a transaction.
+     */
+    private void rollback(Connection connection) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            LOG.warn("Unable to roll back the statements of migration " + script + " since its last checkpoint: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * The statements of the migration committed so far.
+     */
+    private static class Progress {
+        private final CRC32 crc32 = new CRC32();
+        private int statementCount;
+
+        private void add(SqlStatement sqlStatement) {
+            crc32.update(sqlStatement.getSql().getBytes(StandardCharsets.UTF_8));
+            statementCount++;
+        }
+
+        private int getChecksum() {
+            return (int) crc32.getValue();
+        }
+
+        private CheckpointTable.Checkpoint toCheckpoint() {
+            return new CheckpointTable.Checkpoint(statementCount, getChecksum());
+        }
+    }
+
+    /**
+     * A chunk of statements of a SQL script, executed together.
+     */
+    private static class Chunk implements SqlScript {
+        private final SqlScript sqlScript;
+        private final List<SqlStatement> sqlStatements;
+
+        private Chunk(SqlScript sqlScript, List<SqlStatement> sqlStatements) {
+            this.sqlScript = sqlScript;
+            this.sqlStatements = sqlStatements;
+        }
+
+        @Override
+        public SqlStatementIterator getSqlStatements() {
+            final Iterator<SqlStatement> iterator = sqlStatements.iterator();
+            return new SqlStatementIterator() {
+                @Override
+                public void close() {
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public SqlStatement next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+
+        @Override
+        public int getSqlStatementCount() {
+            return sqlStatements.size();
+        }
+
+        @Override
+        public LoadableResource getResource() {
+            return sqlScript.getResource();
+        }
+
+        @Override
+        public boolean executeInTransaction() {
+            return sqlScript.executeInTransaction();
+        }
+
+        @Override
+        public int compareTo(SqlScript o) {
+            return sqlScript.compareTo(o);
+        }
+    }
+}
@@ -20,65 +20,157 @@ import org.flywaydb.core.api.executor.MigrationExecutor;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.resource.LoadableResource;
+import org.flywaydb.core.internal.schemahistory.CheckpointTable;
+import org.flywaydb.core.internal.sqlscript.SlowStatementCollector;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
+import org.flywaydb.core.internal.sqlscript.SqlScriptExecutor;
+import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Database migration based on a sql file.
  */
 public class SqlMigrationExecutor implements MigrationExecutor {
     private final Database database;
+
     /**
-     * The SQL script that will be executed.
+     * The resource containing the SQL script.
      */
-    private final SqlScript sqlScript;
-
-
-
-
-
-
-
-
-
-
+    private final LoadableResource resource;
 
+    /**
+     * The factory used to parse the SQL script.
+     */
+    private final SqlScriptFactory sqlScriptFactory;
 
+    /**
+     * Whether to allow mixing transactional and non-transactional statements within the same migration.
+     */
+    private final boolean mixed;
 
+    /**
+     * The SQL script that will be executed. Lazily parsed on first use.
+     */
+    private SqlScript sqlScript;
 
+    /**
+     * Whether the SQL script can be executed in a transaction. Remembered separately so the parsed script can be
+     * released once it has been executed.
+     */
+    private Boolean executeInTransaction;
 
+    /**
+     * Whether this migration has been executed.
+     */
+    private boolean executed;
 
+    /**
+     * The executor for the callbacks of the statement events.
+     */
+    private final CallbackExecutor callbackExecutor;
 
+    /**
+     * The slowest statements of the last execution, slowest first. Empty unless they are being collected.
+     */
+    private List<SlowStatementCollector.SlowStatement> slowStatements = Collections.emptyList();
 
     /**
-     * Creates a new sql script migration based on this sql script.
+     * Creates a new sql script migration based on this resource. The script is only parsed once it is actually needed.
+     * It can be parsed ahead of its execution on another thread through {@link #prepare()}.
      *
-     * @param sqlScript The SQL script that will be executed.
+     * @param database         The database-specific support.
+     * @param resource         The resource containing the SQL script.
+     * @param sqlScriptFactory The factory used to parse the SQL script.
+     * @param mixed            Whether to allow mixing transactional and non-transactional statements within the same
+     *                         migration.
+     * @param callbackExecutor The executor for the callbacks of the statement events.
      */
-    SqlMigrationExecutor(Database database, SqlScript sqlScript
-
-
-
-    ) {
+    SqlMigrationExecutor(Database database, LoadableResource resource, SqlScriptFactory sqlScriptFactory, boolean mixed,
+                         CallbackExecutor callbackExecutor) {
         this.database = database;
-        this.sqlScript = sqlScript;
+        this.resource = resource;
+        this.sqlScriptFactory = sqlScriptFactory;
+        this.mixed = mixed;
+        this.callbackExecutor = callbackExecutor;
+    }
 
+    @Override
+    public void execute(Context context) {
+        execute(context, null, 0);
+    }
 
+    /**
+     * Executes this migration in chunks of statements, each committed together with a checkpoint from which it is
+     * resumed after a failure. Only meant for migrations which aren't executed within a transaction.
+     *
+     * @param context            The context containing the connection and configuration.
+     * @param checkpointTable    The table holding the checkpoints.
+     * @param checkpointInterval The maximum number of statements per chunk.
+     */
+    public void execute(Context context, CheckpointTable checkpointTable, int checkpointInterval) {
+        int slowStatementCount = context.getConfiguration().getSlowStatements();
+        SlowStatementCollector slowStatementCollector = slowStatementCount > 0
+                ? new SlowStatementCollector(slowStatementCount)
+                : null;
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getConnection());
+        SqlScriptExecutor sqlScriptExecutor = database.createSqlScriptExecutor(jdbcTemplate, callbackExecutor,
+                slowStatementCollector);
+        if (checkpointTable != null) {
+            sqlScriptExecutor = new CheckpointSqlScriptExecutor(sqlScriptExecutor, jdbcTemplate, checkpointTable,
+                    resource.getRelativePath(), checkpointInterval);
+        }
+        try {
+            sqlScriptExecutor.execute(getSqlScript());
+        } finally {
+            release();
+            if (slowStatementCollector != null) {
+                slowStatements = slowStatementCollector.getSlowStatements();
+            }
+        }
+    }
 
+    /**
+     * @return The slowest statements of the last execution of this migration, slowest first. Empty unless the slowest
+     * statements are being collected.
+     */
+    public List<SlowStatementCollector.SlowStatement> getSlowStatements() {
+        return slowStatements;
+    }
 
+    /**
+     * Parses the SQL script ahead of its execution, unless this has already happened or it has already been executed.
+     */
+    public synchronized void prepare() {
+        if (!executed) {
+            canExecuteInTransaction();
+        }
+    }
 
+    private synchronized void release() {
+        // Release the statements, as they are no longer needed once the migration has been executed
+        sqlScript = null;
+        executed = true;
     }
 
     @Override
-    public void execute(Context context) {
-        database.createSqlScriptExecutor(new JdbcTemplate(context.getConnection())
+    public synchronized boolean canExecuteInTransaction() {
+        if (executeInTransaction == null) {
+            executeInTransaction = getSqlScript().executeInTransaction();
+        }
+        return executeInTransaction;
+    }
 
+    private synchronized SqlScript getSqlScript() {
+        if (sqlScript == null) {
+            sqlScript = sqlScriptFactory.createSqlScript(resource, mixed
 
 
-        ).execute(sqlScript);
-    }
 
-    @Override
-    public boolean canExecuteInTransaction() {
-        return sqlScript.executeInTransaction();
+            );
+        }
+        return sqlScript;
     }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@
  */
 package org.flywaydb.core.internal.resolver.sql;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationType;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.callback.Event;
@@ -27,9 +28,9 @@ import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.resolver.MigrationInfoHelper;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
+import org.flywaydb.core.internal.resource.ChecksumCache;
 import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.resource.ResourceProvider;
-import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
 import org.flywaydb.core.internal.util.Pair;
 
@@ -38,6 +39,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.zip.CRC32;
 
 /**
@@ -57,47 +63,49 @@ public class SqlMigrationResolver implements MigrationResolver {
 
     private final SqlScriptFactory sqlScriptFactory;
 
-
-
-
-
-
-
+    /**
+     * The executor for the callbacks of the statement events.
+     */
+    private final CallbackExecutor callbackExecutor;
 
     /**
      * The Flyway configuration.
      */
     private final Configuration configuration;
 
+    /**
+     * The cache of the checksums of the migrations, shared with the other resolvers, or {@code null} if disabled.
+     */
+    private final ChecksumCache checksumCache;
+
     /**
      * Creates a new instance.
      *
      * @param database                   The database-specific support.
      * @param resourceProvider           The Scanner for loading migrations on the classpath.
      * @param sqlScriptFactory The SQL statement builder factory.
+     * @param callbackExecutor           The callback executor.
      * @param configuration              The Flyway configuration.
+     * @param checksumCache              The cache of the checksums of the migrations, saved by the caller once all
+     *                                   migrations have been resolved, or {@code null} to disable it.
      */
     public SqlMigrationResolver(Database database, ResourceProvider resourceProvider,
-                                SqlScriptFactory sqlScriptFactory
-
-
-
-            , Configuration configuration) {
+                                SqlScriptFactory sqlScriptFactory, CallbackExecutor callbackExecutor,
+                                Configuration configuration, ChecksumCache checksumCache) {
         this.database = database;
         this.resourceProvider = resourceProvider;
         this.sqlScriptFactory = sqlScriptFactory;
-
-
-
+        this.callbackExecutor = callbackExecutor;
         this.configuration = configuration;
+        this.checksumCache = checksumCache;
     }
 
     public List<ResolvedMigration> resolveMigrations(Context context) {
-        List<ResolvedMigration> migrations = new ArrayList<>();
+        List<Callable<ResolvedMigration>> tasks = new ArrayList<>();
 
         String separator = configuration.getSqlMigrationSeparator();
         String[] suffixes = configuration.getSqlMigrationSuffixes();
-        addMigrations(migrations, configuration.getSqlMigrationPrefix(), separator, suffixes,
+        addMigrations(tasks, checksumCache, configuration.getSqlMigrationPrefix(), separator, suffixes,
                 false
 
 
@@ -107,44 +115,112 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
-        addMigrations(migrations, configuration.getRepeatableSqlMigrationPrefix(), separator, suffixes,
+        addMigrations(tasks, checksumCache, configuration.getRepeatableSqlMigrationPrefix(), separator, suffixes,
                 true
 
 
 
         );
 
+        List<ResolvedMigration> migrations = resolve(tasks);
+
         Collections.sort(migrations, new ResolvedMigrationComparator());
         return migrations;
     }
 
-    private void addMigrations(List<ResolvedMigration> migrations, String prefix,
-                               String separator, String[] suffixes, boolean repeatable
+    /**
+     * Resolves these migrations, in parallel when multiple resolve threads have been configured.
+     *
+     * @param tasks The tasks resolving each migration.
+     * @return The resolved migrations, in the same order as their tasks.
+     */
+    private List<ResolvedMigration> resolve(List<Callable<ResolvedMigration>> tasks) {
+        List<ResolvedMigration> migrations = new ArrayList<>(tasks.size());
+
+        int threads = Math.min(configuration.getResolveThreads(), tasks.size());
+        if (threads <= 1) {
+            for (Callable<ResolvedMigration> task : tasks) {
+                FutureTask<ResolvedMigration> future = new FutureTask<>(task);
+                future.run();
+                migrations.add(getResult(future));
+            }
+            return migrations;
+        }
+
+        List<FutureTask<ResolvedMigration>> futures = new ArrayList<>(tasks.size());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (Callable<ResolvedMigration> task : tasks) {
+                FutureTask<ResolvedMigration> future = new FutureTask<>(task);
+                pool.execute(future);
+                futures.add(future);
+            }
+            // Results are collected in task order, so a failure is reported the same way as when resolving sequentially
+            for (FutureTask<ResolvedMigration> future : futures) {
+                migrations.add(getResult(future));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return migrations;
+    }
+
+    private static ResolvedMigration getResult(Future<ResolvedMigration> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while resolving SQL migrations", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new FlywayException("Unable to resolve SQL migration: " + cause.getMessage(), cause);
+        }
+    }
+
+    private void addMigrations(List<Callable<ResolvedMigration>> tasks, final ChecksumCache checksumCache,
+                               final String prefix, final String separator, final String[] suffixes,
+                               final boolean repeatable
 
 
 
     ) {
-        for (LoadableResource resource : resourceProvider.getResources(prefix, suffixes)) {
-            String filename = resource.getFilename();
-            if (isSqlCallback(filename, separator, suffixes)) {
+        for (final LoadableResource resource : resourceProvider.getResources(prefix, suffixes)) {
+            if (isSqlCallback(resource.getFilename(), separator, suffixes)) {
                 continue;
             }
-            Pair<MigrationVersion, String> info =
-                    MigrationInfoHelper.extractVersionAndDescription(filename, prefix, separator, suffixes, repeatable);
+            tasks.add(new Callable<ResolvedMigration>() {
+                @Override
+                public ResolvedMigration call() {
+                    return resolveMigration(resource, checksumCache, prefix, separator, suffixes, repeatable
 
-            ResolvedMigrationImpl migration = new ResolvedMigrationImpl();
-            migration.setVersion(info.getLeft());
-            migration.setDescription(info.getRight());
-            migration.setScript(resource.getRelativePath());
 
-            SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, configuration.isMixed()
 
+                    );
+                }
+            });
+        }
+    }
 
+    private ResolvedMigration resolveMigration(LoadableResource resource, ChecksumCache checksumCache, String prefix,
+                                               String separator, String[] suffixes, boolean repeatable
 
-            );
 
 
+    ) {
+        String filename = resource.getFilename();
+        Pair<MigrationVersion, String> info =
+                MigrationInfoHelper.extractVersionAndDescription(filename, prefix, separator, suffixes, repeatable);
 
+        ResolvedMigrationImpl migration = new ResolvedMigrationImpl();
+        migration.setVersion(info.getLeft());
+        migration.setDescription(info.getRight());
+        migration.setScript(resource.getRelativePath());
 
 
 
@@ -154,15 +230,15 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
-            int checksum;
 
 
 
-                checksum = resource.checksum();
 
+        int checksum;
 
 
 
+            checksum = checksumCache == null ? resource.checksum() : checksumCache.checksum(resource);
 
 
 
@@ -170,20 +246,20 @@ public class SqlMigrationResolver implements MigrationResolver {
 
 
 
-            migration.setChecksum(checksum);
-            migration.setType(
 
 
 
-                            MigrationType.SQL);
-            migration.setPhysicalLocation(resource.getAbsolutePathOnDisk());
-            migration.setExecutor(new SqlMigrationExecutor(database, sqlScript
 
+        migration.setChecksum(checksum);
+        migration.setType(
 
 
-            ));
-            migrations.add(migration);
-        }
+
+                        MigrationType.SQL);
+        migration.setPhysicalLocation(resource.getAbsolutePathOnDisk());
+        migration.setExecutor(new SqlMigrationExecutor(database, resource, sqlScriptFactory, configuration.isMixed(),
+                callbackExecutor));
+        return migration;
     }
 
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resource;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.util.IOUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * On-disk cache of resource checksums, keyed by resource fingerprint. This allows checksums of unchanged resources to
+ * be reused across runs without having to read these resources again. Checksums can be retrieved by multiple threads
+ * concurrently.
+ */
+public class ChecksumCache {
+    private static final Log LOG = LogFactory.getLog(ChecksumCache.class);
+
+    private static final String FILENAME = "flyway-checksums.properties";
+
+    /**
+     * The file backing this cache.
+     */
+    private final File file;
+
+    /**
+     * The checksums loaded from the cache file.
+     */
+    private final Properties loaded = new Properties();
+
+    /**
+     * The checksums of the resources used during this run. Only these are written back, to keep the cache from
+     * growing with resources that no longer exist.
+     */
+    private final Properties used = new Properties();
+
+    /**
+     * Creates a new checksum cache backed by a file in this directory.
+     *
+     * @param directory The directory of the cache.
+     */
+    public ChecksumCache(String directory) {
+        this.file = new File(directory, FILENAME);
+        if (file.isFile()) {
+            InputStream inputStream = null;
+            try {
+                inputStream = new FileInputStream(file);
+                loaded.load(inputStream);
+            } catch (IOException | IllegalArgumentException e) {
+                LOG.warn("Unable to read checksum cache " + file.getAbsolutePath() + ": " + e.getMessage());
+                loaded.clear();
+            } finally {
+                IOUtils.close(inputStream);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the checksum of this resource, either from the cache or by calculating it.
+     *
+     * @param resource The resource.
+     * @return The checksum.
+     */
+    public int checksum(LoadableResource resource) {
+        String fingerprint = resource.getFingerprint();
+        if (fingerprint == null) {
+            return resource.checksum();
+        }
+
+        int checksum;
+        String cached = loaded.getProperty(fingerprint);
+        if (cached == null) {
+            checksum = resource.checksum();
+        } else {
+            try {
+                checksum = Integer.parseInt(cached);
+            } catch (NumberFormatException e) {
+                checksum = resource.checksum();
+            }
+        }
+        used.setProperty(fingerprint, Integer.toString(checksum));
+        return checksum;
+    }
+
+    /**
+     * Writes the checksums used during this run back to the cache file, if they differ from its contents.
+     */
+    public void save() {
+        if (used.equals(loaded)) {
+            return;
+        }
+
+        OutputStream outputStream = null;
+        File tempFile = null;
+        try {
+            File directory = file.getAbsoluteFile().getParentFile();
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Unable to create directory " + directory.getAbsolutePath());
+            }
+            // Write to a temporary file first, so concurrent runs never observe a partially written cache
+            tempFile = File.createTempFile(FILENAME, ".tmp", directory);
+            outputStream = new FileOutputStream(tempFile);
+            used.store(outputStream, "Flyway checksum cache");
+            outputStream.close();
+            outputStream = null;
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+        } catch (IOException e) {
+            LOG.warn("Unable to write checksum cache " + file.getAbsolutePath() + ": " + e.getMessage());
+        } finally {
+            IOUtils.close(outputStream);
+            if (tempFile != null && !tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+}
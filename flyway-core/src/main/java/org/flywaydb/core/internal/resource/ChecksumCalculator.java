@@ -0,0 +1,142 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resource;
+
+import java.util.zip.CRC32;
+
+/**
+ * Calculates the checksum of a resource from its characters in a single pass. The checksum is the crc-32 of the UTF-8
+ * encoded contents with all line breaks removed, which makes it encoding and line-ending independent.
+ */
+public class ChecksumCalculator {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CRC32 crc32 = new CRC32();
+
+    /**
+     * The UTF-8 bytes not yet fed to the crc. Leaves room for the longest encoded sequence past the buffer size.
+     */
+    private final byte[] bytes = new byte[BUFFER_SIZE + 4];
+    private int byteCount;
+
+    /**
+     * The high surrogate waiting for its low surrogate, or 0 if none.
+     */
+    private char highSurrogate;
+
+    /**
+     * Updates the checksum with these characters.
+     *
+     * @param chars  The characters.
+     * @param offset The offset of the first character to use.
+     * @param length The number of characters to use.
+     */
+    public void update(char[] chars, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            if (highSurrogate == 0) {
+                // Fast path for runs of ASCII characters
+                byte[] b = bytes;
+                int count = byteCount;
+                int limit = Math.min(end, i + BUFFER_SIZE - count);
+                while (i < limit) {
+                    char c = chars[i];
+                    if (c >= 0x80) {
+                        break;
+                    }
+                    if (c != '\n' && c != '\r') {
+                        b[count++] = (byte) c;
+                    }
+                    i++;
+                }
+                byteCount = count;
+                flushIfFull();
+                if (i == limit) {
+                    continue;
+                }
+            }
+            update(chars[i++]);
+        }
+    }
+
+    /**
+     * Updates the checksum with this character.
+     *
+     * @param c The character.
+     */
+    public void update(char c) {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                bytes[byteCount++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[byteCount++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[byteCount++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[byteCount++] = (byte) (0x80 | (codePoint & 0x3f));
+                flushIfFull();
+                return;
+            }
+            // Unpaired surrogates are replaced, just like String.getBytes() does
+            bytes[byteCount++] = '?';
+        }
+
+        if (c == '\n' || c == '\r') {
+            return;
+        }
+        if (c < 0x80) {
+            bytes[byteCount++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[byteCount++] = (byte) (0xc0 | (c >> 6));
+            bytes[byteCount++] = (byte) (0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            bytes[byteCount++] = '?';
+        } else {
+            bytes[byteCount++] = (byte) (0xe0 | (c >> 12));
+            bytes[byteCount++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            bytes[byteCount++] = (byte) (0x80 | (c & 0x3f));
+        }
+        flushIfFull();
+    }
+
+    private void flushIfFull() {
+        if (byteCount >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        crc32.update(bytes, 0, byteCount);
+        byteCount = 0;
+    }
+
+    /**
+     * Completes the calculation. No further characters may be added afterwards.
+     *
+     * @return The checksum.
+     */
+    public int getValue() {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            bytes[byteCount++] = '?';
+        }
+        flush();
+        return (int) crc32.getValue();
+    }
+}
@@ -17,13 +17,10 @@ package org.flywaydb.core.internal.resource;
 
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.internal.util.IOUtils;
-import org.flywaydb.core.internal.util.StringUtils;
 
-import java.io.BufferedReader;
+import java.io.FilterReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.nio.charset.StandardCharsets;
-import java.util.zip.CRC32;
 
 /**
  * A loadable resource.
@@ -38,6 +35,16 @@ public abstract class LoadableResource implements Resource, Comparable<LoadableR
      */
     public abstract Reader read();
 
+    /**
+     * Retrieves a fingerprint identifying the current contents of this resource without having to read it, such as its
+     * location combined with its size and last modification time.
+     *
+     * @return The fingerprint, or {@code null} if this resource can't be identified this way.
+     */
+    public String getFingerprint() {
+        return null;
+    }
+
 
 
 
@@ -48,6 +55,19 @@ public abstract class LoadableResource implements Resource, Comparable<LoadableR
 
 
 
+    /**
+     * Reads the contents of this resource, calculating its checksum along the way. Once the returned reader has been
+     * read until the end, the checksum is available through {@link #checksum()} without reading the resource again.
+     *
+     * @return The reader with the contents of the resource.
+     */
+    public final Reader readAndChecksum() {
+        if (checksum != null) {
+            return read();
+        }
+        return new ChecksumCalculatingReader(read());
+    }
+
     /**
      * Calculates the checksum of this resource. The checksum is encoding and line-ending independent.
      *
@@ -55,15 +75,15 @@ public abstract class LoadableResource implements Resource, Comparable<LoadableR
      */
     public final int checksum() {
         if (checksum == null) {
-            final CRC32 crc32 = new CRC32();
+            ChecksumCalculator calculator = new ChecksumCalculator();
 
-            BufferedReader reader = null;
+            Reader reader = null;
             try {
-                reader = new BufferedReader(read(), 4096);
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    //noinspection Since15
-                    crc32.update(StringUtils.trimLineBreak(line).getBytes(StandardCharsets.UTF_8));
+                reader = read();
+                char[] buffer = new char[4096];
+                int count;
+                while ((count = reader.read(buffer, 0, buffer.length)) != -1) {
+                    calculator.update(buffer, 0, count);
                 }
             } catch (IOException e) {
                 throw new FlywayException("Unable to calculate checksum for " + getFilename() + ": " + e.getMessage(), e);
@@ -71,11 +91,65 @@ public abstract class LoadableResource implements Resource, Comparable<LoadableR
                 IOUtils.close(reader);
             }
 
-            checksum = (int) crc32.getValue();
+            checksum = calculator.getValue();
         }
         return checksum;
     }
 
+    /**
+     * Reader feeding all characters read into the checksum of this resource.
+     */
+    private class ChecksumCalculatingReader extends FilterReader {
+        private final ChecksumCalculator calculator = new ChecksumCalculator();
+
+        ChecksumCalculatingReader(Reader in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c == -1) {
+                complete();
+            } else {
+                calculator.update((char) c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int count = super.read(cbuf, off, len);
+            if (count == -1) {
+                complete();
+            } else {
+                calculator.update(cbuf, off, count);
+            }
+            return count;
+        }
+
+        private void complete() {
+            if (checksum == null) {
+                checksum = calculator.getValue();
+            }
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            throw new IOException("skip() not supported");
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void mark(int readAheadLimit) throws IOException {
+            throw new IOException("mark() not supported");
+        }
+    }
+
     @Override
     public int compareTo(LoadableResource o) {
         return getRelativePath().compareTo(o.getRelativePath());
@@ -21,11 +21,15 @@ import org.flywaydb.core.internal.resource.LoadableResource;
 import org.flywaydb.core.internal.util.UrlUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.JarURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.charset.Charset;
+import java.util.jar.JarEntry;
 
 /**
  * A resource on the classpath.
@@ -94,6 +98,30 @@ public class ClassPathResource extends LoadableResource {
         return new InputStreamReader(inputStream, encoding);
     }
 
+    @Override
+    public String getFingerprint() {
+        URL url = getUrl();
+        if (url == null) {
+            return null;
+        }
+        try {
+            if ("file".equals(url.getProtocol())) {
+                File file = new File(UrlUtils.decodeURL(url.getPath()));
+                return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified() + "|" + encoding.name();
+            }
+            URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection) {
+                JarEntry jarEntry = ((JarURLConnection) connection).getJarEntry();
+                if (jarEntry != null && jarEntry.getCrc() != -1) {
+                    return url + "|" + jarEntry.getSize() + "|" + jarEntry.getCrc() + "|" + encoding.name();
+                }
+            }
+        } catch (IOException e) {
+            // Not identifiable without reading it
+        }
+        return null;
+    }
+
     @Override
     public String getFilename() {
         return fileNameWithAbsolutePath.substring(fileNameWithAbsolutePath.lastIndexOf("/") + 1);
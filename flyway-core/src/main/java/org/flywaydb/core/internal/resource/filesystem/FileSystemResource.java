@@ -22,10 +22,7 @@ import org.flywaydb.core.internal.resource.LoadableResource;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
-import java.nio.channels.Channels;
-import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
-import java.nio.file.StandardOpenOption;
 
 /**
  * A resource on the filesystem.
@@ -91,12 +88,17 @@ public class FileSystemResource extends LoadableResource {
     @Override
     public Reader read() {
         try {
-            return Channels.newReader(FileChannel.open(file.toPath(), StandardOpenOption.READ), encoding.newDecoder(), 4096);
+            return new MappedFileReader(file.toPath(), encoding.newDecoder());
         } catch (IOException e) {
             throw new FlywayException("Unable to load filesystem resource: " + file.getPath() + " (encoding: " + encoding + ")", e);
         }
     }
 
+    @Override
+    public String getFingerprint() {
+        return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified() + "|" + encoding.name();
+    }
+
 
 
 
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.resource.filesystem;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reader decoding a file in large chunks directly into the buffers of its callers. Small files are read through their
+ * channel, while larger ones are memory-mapped one window at a time.
+ */
+class MappedFileReader extends Reader {
+    /**
+     * Files larger than this are memory-mapped instead of being read through the channel.
+     */
+    private static final int MAPPING_THRESHOLD = 1024 * 1024;
+
+    /**
+     * The maximum size of a single mapping. Keeps the address space used for very large files bounded.
+     */
+    private static final long MAX_MAPPING_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The size of the chunks in which bytes are handed to the decoder.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final CharsetDecoder decoder;
+    private long size;
+
+    /**
+     * The bytes of the current chunk, always backed by an array so the decoder can use its fast array-based loop.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * The position in the file of the next byte to read into the chunk.
+     */
+    private long position;
+
+    /**
+     * The current mapping of the file, or {@code null} if it isn't mapped.
+     */
+    private ByteBuffer mapping;
+
+    /**
+     * Whether the whole file has been decoded and the decoder flushed.
+     */
+    private boolean finished;
+    private boolean endOfBytes;
+
+    /**
+     * Holds the low surrogate of a pair when only a single char was requested.
+     */
+    private final char[] pair = new char[2];
+    private boolean pendingLowSurrogate;
+
+    private final char[] singleChar = new char[1];
+
+    /**
+     * Opens this file for reading.
+     *
+     * @param path    The path of the file.
+     * @param decoder The decoder for the encoding of the file.
+     * @throws IOException when the file could not be opened.
+     */
+    MappedFileReader(Path path, CharsetDecoder decoder) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.decoder = decoder;
+        try {
+            this.size = channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        // Leave room for an incomplete sequence carried over from the previous chunk
+        bytes = ByteBuffer.allocate((int) Math.min(size, CHUNK_SIZE) + 8);
+        bytes.flip();
+    }
+
+    /**
+     * Refills the chunk with the next bytes of the file, keeping any incomplete sequence left at its end.
+     */
+    private void fill() throws IOException {
+        bytes.compact();
+        if (size > MAPPING_THRESHOLD) {
+            if (mapping == null || !mapping.hasRemaining()) {
+                mapping = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size - position, MAX_MAPPING_SIZE));
+            }
+            int count = Math.min(bytes.remaining(), mapping.remaining());
+            mapping.get(bytes.array(), bytes.arrayOffset() + bytes.position(), count);
+            bytes.position(bytes.position() + count);
+            position += count;
+        } else {
+            int count = channel.read(bytes, position);
+            if (count == -1) {
+                // The file was truncated while reading it
+                size = position;
+            } else {
+                position += count;
+            }
+        }
+        bytes.flip();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(singleChar, 0, 1) == -1 ? -1 : singleChar[0];
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        int count = 0;
+        if (pendingLowSurrogate) {
+            pendingLowSurrogate = false;
+            cbuf[off] = pair[1];
+            count++;
+            off++;
+            len--;
+            if (len == 0) {
+                return count;
+            }
+        }
+
+        if (len == 1) {
+            // Leave room for a full surrogate pair
+            int decoded = decode(CharBuffer.wrap(pair));
+            if (decoded == -1) {
+                return count == 0 ? -1 : count;
+            }
+            cbuf[off] = pair[0];
+            pendingLowSurrogate = decoded == 2;
+            return count + 1;
+        }
+
+        int decoded = decode(CharBuffer.wrap(cbuf, off, len));
+        if (decoded == -1) {
+            return count == 0 ? -1 : count;
+        }
+        return count + decoded;
+    }
+
+    /**
+     * Decodes as many chars as fit into this buffer, which must have room for at least two.
+     *
+     * @return The number of chars decoded, or -1 at the end of the file.
+     */
+    private int decode(CharBuffer out) throws IOException {
+        int start = out.position();
+        while (out.position() == start) {
+            if (finished) {
+                return -1;
+            }
+
+            CoderResult result;
+            if (endOfBytes) {
+                result = decoder.flush(out);
+                if (result.isUnderflow()) {
+                    finished = true;
+                    continue;
+                }
+            } else {
+                boolean endOfInput = position == size;
+                result = decoder.decode(bytes, out, endOfInput);
+                if (result.isUnderflow()) {
+                    if (endOfInput) {
+                        endOfBytes = true;
+                    } else {
+                        fill();
+                    }
+                    continue;
+                }
+            }
+
+            if (result.isError()) {
+                result.throwException();
+            }
+        }
+        return out.position() - start;
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapping = null;
+        channel.close();
+    }
+}
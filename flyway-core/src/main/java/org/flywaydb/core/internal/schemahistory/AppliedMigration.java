@@ -48,7 +48,7 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
     /**
      * The name of the script to execute for this migration, relative to its classpath location.
      */
-    private final String script;
+    private String script;
 
     /**
      * The checksum of the migration. (Optional)
@@ -58,23 +58,29 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
     /**
      * The timestamp when this migration was installed.
      */
-    private final Date installedOn;
+    private Date installedOn;
 
     /**
      * The user that installed this migration.
      */
-    private final String installedBy;
+    private String installedBy;
 
     /**
      * The execution time (in millis) of this migration.
      */
-    private final int executionTime;
+    private int executionTime;
 
     /**
      * Flag indicating whether the migration was successful or not.
      */
     private final boolean success;
 
+    /**
+     * The loader of the script, installation timestamp, installing user and execution time of this migration, or
+     * {@code null} if they have been loaded already. Always belongs to the schema history instance which read it.
+     */
+    private volatile DetailsLoader detailsLoader;
+
     /**
      * Creates a new applied migration. Only called from the RowMapper.
      *
@@ -104,6 +110,46 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
         this.success = success;
     }
 
+    /**
+     * Creates a new applied migration from the summary of its row, with the remaining details loaded on first access.
+     *
+     * @param installedRank The order in which this migration was applied amongst all others. (For out of order detection)
+     * @param version       The target version of this migration.
+     * @param description   The description of the migration.
+     * @param type          The type of migration (INIT, SQL, ...)
+     * @param checksum      The checksum of the migration. (Optional)
+     * @param success       Flag indicating whether the migration was successful or not.
+     * @param detailsLoader The loader of the remaining details.
+     */
+    AppliedMigration(int installedRank, MigrationVersion version, String description, MigrationType type,
+                     Integer checksum, boolean success, DetailsLoader detailsLoader) {
+        this.installedRank = installedRank;
+        this.version = version;
+        this.description = description;
+        this.type = type;
+        this.checksum = checksum;
+        this.success = success;
+        this.detailsLoader = detailsLoader;
+    }
+
+    /**
+     * Sets the details of this migration loaded by its loader.
+     */
+    void setDetails(String script, Date installedOn, String installedBy, int executionTime) {
+        this.script = script;
+        this.installedOn = installedOn;
+        this.installedBy = installedBy;
+        this.executionTime = executionTime;
+        this.detailsLoader = null;
+    }
+
+    private void loadDetails() {
+        DetailsLoader loader = detailsLoader;
+        if (loader != null) {
+            loader.loadDetails();
+        }
+    }
+
     /**
      * @return The order in which this migration was applied amongst all others. (For out of order detection)
      */
@@ -136,6 +182,7 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
      * @return The name of the script to execute for this migration, relative to its classpath location.
      */
     public String getScript() {
+        loadDetails();
         return script;
     }
 
@@ -150,6 +197,7 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
      * @return The timestamp when this migration was installed.
      */
     public Date getInstalledOn() {
+        loadDetails();
         return installedOn;
     }
 
@@ -157,6 +205,7 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
      * @return The user that installed this migration.
      */
     public String getInstalledBy() {
+        loadDetails();
         return installedBy;
     }
 
@@ -164,6 +213,7 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
      * @return The execution time (in millis) of this migration.
      */
     public int getExecutionTime() {
+        loadDetails();
         return executionTime;
     }
 
@@ -182,14 +232,11 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
 
         AppliedMigration that = (AppliedMigration) o;
 
-        if (executionTime != that.executionTime) return false;
+        // Only the summary, as the remaining details may not have been loaded
         if (installedRank != that.installedRank) return false;
         if (success != that.success) return false;
         if (checksum != null ? !checksum.equals(that.checksum) : that.checksum != null) return false;
         if (!description.equals(that.description)) return false;
-        if (installedBy != null ? !installedBy.equals(that.installedBy) : that.installedBy != null) return false;
-        if (installedOn != null ? !installedOn.equals(that.installedOn) : that.installedOn != null) return false;
-        if (!script.equals(that.script)) return false;
         if (type != that.type) return false;
         return Objects.equals(version, that.version);
     }
@@ -200,11 +247,7 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
         result = 31 * result + (version != null ? version.hashCode() : 0);
         result = 31 * result + description.hashCode();
         result = 31 * result + type.hashCode();
-        result = 31 * result + script.hashCode();
         result = 31 * result + (checksum != null ? checksum.hashCode() : 0);
-        result = 31 * result + (installedOn != null ? installedOn.hashCode() : 0);
-        result = 31 * result + (installedBy != null ? installedBy.hashCode() : 0);
-        result = 31 * result + executionTime;
         result = 31 * result + (success ? 1 : 0);
         return result;
     }
@@ -213,4 +256,14 @@ public class AppliedMigration implements Comparable<AppliedMigration> {
     public int compareTo(AppliedMigration o) {
         return installedRank - o.installedRank;
     }
+
+    /**
+     * Loads the details of applied migrations which have only been read in summary.
+     */
+    interface DetailsLoader {
+        /**
+         * Loads the details of all migrations of this loader which haven't got them yet.
+         */
+        void loadDetails();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.schemahistory;
+
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.database.base.Connection;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.database.base.Table;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.RowMapper;
+import org.flywaydb.core.internal.jdbc.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * The table next to the schema history table holding the checkpoints of the SQL migrations applied in chunks. A
+ * migration has a checkpoint while it is partially applied, recording how many of its statements have been committed.
+ * Checkpoints are written by the migration itself, on its own connection and within the same transaction as the
+ * statements they cover.
+ */
+public class CheckpointTable {
+    private static final Log LOG = LogFactory.getLog(CheckpointTable.class);
+
+    /**
+     * The database to use.
+     */
+    private final Database database;
+
+    /**
+     * The checkpoint table.
+     */
+    private final Table table;
+
+    /**
+     * Creates a new checkpoint table.
+     *
+     * @param database The database to use.
+     * @param table    The checkpoint table.
+     */
+    CheckpointTable(Database database, Table table) {
+        this.database = database;
+        this.table = table;
+    }
+
+    /**
+     * Creates the checkpoint table, unless it already exists.
+     */
+    public void create() {
+        final Connection<?> connection = database.getMainConnection();
+        connection.restoreOriginalState();
+        if (table.exists()) {
+            return;
+        }
+
+        LOG.info("Creating checkpoint table: " + table);
+        new TransactionTemplate(connection.getJdbcConnection(), true).execute(new Callable<Object>() {
+            @Override
+            public Object call() throws SQLException {
+                connection.getJdbcTemplate().execute(database.getCheckpointTableCreateStatement(table));
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Retrieves the checkpoint of this migration.
+     *
+     * @param jdbcTemplate The template for the connection of the migration.
+     * @param script       The script of the migration.
+     * @return The checkpoint, or {@code null} if the migration has none.
+     */
+    public Checkpoint get(JdbcTemplate jdbcTemplate, String script) {
+        try {
+            List<Checkpoint> checkpoints = jdbcTemplate.query("SELECT " + database.quote("statement_count")
+                    + "," + database.quote("checksum")
+                    + " FROM " + table
+                    + " WHERE " + database.quote("script") + "=?", new RowMapper<Checkpoint>() {
+                @Override
+                public Checkpoint mapRow(ResultSet rs) throws SQLException {
+                    return new Checkpoint(rs.getInt(1), rs.getInt(2));
+                }
+            }, script);
+            return checkpoints.isEmpty() ? null : checkpoints.get(0);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to read checkpoint of " + script + " from checkpoint table " + table, e);
+        }
+    }
+
+    /**
+     * Records this checkpoint of this migration, replacing any previous one. This happens within the current
+     * transaction of the connection of the migration, if any.
+     *
+     * @param jdbcTemplate The template for the connection of the migration.
+     * @param script       The script of the migration.
+     * @param checkpoint   The checkpoint.
+     */
+    public void save(JdbcTemplate jdbcTemplate, String script, Checkpoint checkpoint) {
+        try {
+            delete(jdbcTemplate, script);
+            jdbcTemplate.update("INSERT INTO " + table
+                            + " (" + database.quote("script")
+                            + "," + database.quote("statement_count")
+                            + "," + database.quote("checksum")
+                            + ") VALUES (?, ?, ?)",
+                    script, checkpoint.getStatementCount(), checkpoint.getChecksum());
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to save checkpoint of " + script + " to checkpoint table " + table, e);
+        }
+    }
+
+    /**
+     * Removes the checkpoint of this migration, if any, once it has been fully applied.
+     *
+     * @param jdbcTemplate The template for the connection of the migration.
+     * @param script       The script of the migration.
+     */
+    public void remove(JdbcTemplate jdbcTemplate, String script) {
+        try {
+            delete(jdbcTemplate, script);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Unable to remove checkpoint of " + script + " from checkpoint table " + table,
+                    e);
+        }
+    }
+
+    private void delete(JdbcTemplate jdbcTemplate, String script) throws SQLException {
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + database.quote("script") + "=?", script);
+    }
+
+    @Override
+    public String toString() {
+        return table.toString();
+    }
+
+    /**
+     * A checkpoint of a partially applied migration.
+     */
+    public static class Checkpoint {
+        /**
+         * The number of statements committed so far.
+         */
+        private final int statementCount;
+
+        /**
+         * The checksum of the statements committed so far, to make sure they haven't changed when resuming.
+         */
+        private final int checksum;
+
+        /**
+         * Creates a new checkpoint.
+         *
+         * @param statementCount The number of statements committed so far.
+         * @param checksum       The checksum of the statements committed so far.
+         */
+        public Checkpoint(int statementCount, int checksum) {
+            this.statementCount = statementCount;
+            this.checksum = checksum;
+        }
+
+        /**
+         * @return The number of statements committed so far.
+         */
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * @return The checksum of the statements committed so far.
+         */
+        public int getChecksum() {
+            return checksum;
+        }
+    }
+}
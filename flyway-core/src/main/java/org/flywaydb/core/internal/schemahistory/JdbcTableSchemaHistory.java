@@ -30,11 +30,13 @@ import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.RowMapper;
 import org.flywaydb.core.internal.jdbc.TransactionTemplate;
 
+import javax.sql.DataSource;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -43,6 +45,11 @@ import java.util.concurrent.Callable;
 class JdbcTableSchemaHistory extends SchemaHistory {
     private static final Log LOG = LogFactory.getLog(JdbcTableSchemaHistory.class);
 
+    /**
+     * The number of rows of the schema history table to fetch per round trip.
+     */
+    private static final int FETCH_SIZE = 1000;
+
     /**
      * The database to use.
      */
@@ -56,28 +63,55 @@ class JdbcTableSchemaHistory extends SchemaHistory {
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * Applied migration cache.
+     * Applied migration cache. All access to it is synchronized on the cache itself, as it may be shared.
      */
-    private final LinkedList<AppliedMigration> cache = new LinkedList<>();
+    private final List<AppliedMigration> cache;
+
+    /**
+     * Whether the cache is shared with the other instances in this process using the same data source and table.
+     */
+    private final boolean sharedCache;
 
     /**
      * The user invoking Flyway, for audit purposes.
      */
     private final String installedBy;
 
+    /**
+     * The applied migrations read in summary by this instance whose details haven't been loaded yet, by installed rank.
+     * Kept apart from the cache, so they can still be loaded after it has been cleared.
+     */
+    private final Map<Integer, AppliedMigration> withoutDetails = new HashMap<>();
+
+    /**
+     * Loads the details of the applied migrations read in summary through the connection of this instance.
+     */
+    private final AppliedMigration.DetailsLoader detailsLoader = new AppliedMigration.DetailsLoader() {
+        @Override
+        public void loadDetails() {
+            JdbcTableSchemaHistory.this.loadDetails();
+        }
+    };
+
     /**
      * Creates a new instance of the schema history table support.
      *
      * @param database    The database to use.
      * @param table       The schema history table used by Flyway.
      * @param installedBy The user invoking Flyway, for audit purposes.
+     * @param dataSource  The data source for which to share the cache of applied migrations, or {@code null} to cache
+     *                    them for this instance only.
      */
-    JdbcTableSchemaHistory(Database database, Table table, String installedBy) {
+    JdbcTableSchemaHistory(Database database, Table table, String installedBy, DataSource dataSource) {
         this.table = determineTable(table);
         this.database = database;
         this.connection = database.getMainConnection();
         this.jdbcTemplate = connection.getJdbcTemplate();
         this.installedBy = installedBy;
+        this.sharedCache = dataSource != null;
+        this.cache = sharedCache
+                ? SharedSchemaHistoryCache.get(dataSource, this.table)
+                : new ArrayList<AppliedMigration>();
     }
 
     /**
@@ -104,7 +138,9 @@ class JdbcTableSchemaHistory extends SchemaHistory {
 
     @Override
     public void clearCache() {
-        cache.clear();
+        synchronized (cache) {
+            cache.clear();
+        }
     }
 
     @Override
@@ -125,11 +161,8 @@ class JdbcTableSchemaHistory extends SchemaHistory {
                 new TransactionTemplate(connection.getJdbcConnection(), true).execute(new Callable<Object>() {
                     @Override
                     public Object call() {
-                        database.createSqlScriptExecutor(jdbcTemplate
-
-
-
-                        ).execute(database.getCreateScript(table));
+                        database.createSqlScriptExecutor(jdbcTemplate, NoopCallbackExecutor.INSTANCE, null)
+                                .execute(database.getCreateScript(table));
                         LOG.debug("Created Schema History table: " + table);
                         return null;
                     }
@@ -148,6 +181,11 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         }
     }
 
+    @Override
+    public CheckpointTable getCheckpointTable() {
+        return new CheckpointTable(database, table.getSchema().getTable(table.getName() + "_cp"));
+    }
+
     @Override
     public <T> T lock(Callable<T> callable) {
         connection.restoreOriginalState();
@@ -183,46 +221,157 @@ class JdbcTableSchemaHistory extends SchemaHistory {
     @Override
     public List<AppliedMigration> allAppliedMigrations() {
         if (!exists()) {
+            if (sharedCache) {
+                // Dropped in the meantime
+                clearCache();
+            }
             return new ArrayList<>();
         }
 
-        refreshCache();
-        return cache;
+        synchronized (cache) {
+            refreshCache();
+            // A shared cache may grow while the caller is still iterating over it
+            return sharedCache ? new ArrayList<>(cache) : cache;
+        }
     }
 
     private void refreshCache() {
-        int maxCachedInstalledRank = cache.isEmpty() ? -1 : cache.getLast().getInstalledRank();
+        int maxCachedInstalledRank = cache.isEmpty() ? -1 : cache.get(cache.size() - 1).getInstalledRank();
 
-        String query = database.getSelectStatement(table, maxCachedInstalledRank);
+        if (sharedCache && maxCachedInstalledRank >= 0 && cachedRowsChanged(maxCachedInstalledRank)) {
+            // Rows have been removed or repaired by another process, or the insert of cached rows has been rolled back
+            LOG.debug("Schema History table " + table + " changed. Reading it again ...");
+            cache.clear();
+            maxCachedInstalledRank = -1;
+        }
 
         try {
-            cache.addAll(jdbcTemplate.query(query, new RowMapper<AppliedMigration>() {
-                public AppliedMigration mapRow(final ResultSet rs) throws SQLException {
-                    Integer checksum = rs.getInt("checksum");
-                    if (rs.wasNull()) {
-                        checksum = null;
-                    }
+            // A shared cache only ever holds fully loaded rows, so they never depend on the connection of an instance
+            if (summaryProjection && !sharedCache) {
+                cache.addAll(jdbcTemplate.query(database.getSelectSummaryStatement(table, maxCachedInstalledRank),
+                        FETCH_SIZE, new RowMapper<AppliedMigration>() {
+                            public AppliedMigration mapRow(final ResultSet rs) throws SQLException {
+                                Integer checksum = rs.getInt(5);
+                                if (rs.wasNull()) {
+                                    checksum = null;
+                                }
+
+                                String version = rs.getString(2);
+                                AppliedMigration appliedMigration = new AppliedMigration(
+                                        rs.getInt(1),
+                                        version != null ? MigrationVersion.fromVersion(version) : null,
+                                        rs.getString(3),
+                                        MigrationType.valueOf(rs.getString(4)),
+                                        checksum,
+                                        rs.getBoolean(6),
+                                        detailsLoader
+                                );
+                                synchronized (withoutDetails) {
+                                    withoutDetails.put(appliedMigration.getInstalledRank(), appliedMigration);
+                                }
+                                return appliedMigration;
+                            }
+                        }));
+                return;
+            }
 
-                    return new AppliedMigration(
-                            rs.getInt("installed_rank"),
-                            rs.getString("version") != null ? MigrationVersion.fromVersion(rs.getString("version")) : null,
-                            rs.getString("description"),
-                            MigrationType.valueOf(rs.getString("type")),
-                            rs.getString("script"),
-                            checksum,
-                            rs.getTimestamp("installed_on"),
-                            rs.getString("installed_by"),
-                            rs.getInt("execution_time"),
-                            rs.getBoolean("success")
-                    );
-                }
-            }));
+            cache.addAll(jdbcTemplate.query(database.getSelectStatement(table, maxCachedInstalledRank),
+                    FETCH_SIZE, new RowMapper<AppliedMigration>() {
+                        public AppliedMigration mapRow(final ResultSet rs) throws SQLException {
+                            Integer checksum = rs.getInt(6);
+                            if (rs.wasNull()) {
+                                checksum = null;
+                            }
+
+                            String version = rs.getString(2);
+                            return new AppliedMigration(
+                                    rs.getInt(1),
+                                    version != null ? MigrationVersion.fromVersion(version) : null,
+                                    rs.getString(3),
+                                    MigrationType.valueOf(rs.getString(4)),
+                                    rs.getString(5),
+                                    checksum,
+                                    rs.getTimestamp(7),
+                                    rs.getString(8),
+                                    rs.getInt(9),
+                                    rs.getBoolean(10)
+                            );
+                        }
+                    }));
         } catch (SQLException e) {
             throw new FlywaySqlException("Error while retrieving the list of applied migrations from Schema History table "
                     + table, e);
         }
     }
 
+    /**
+     * Loads the details of all applied migrations this instance has only read in summary, in a single query.
+     */
+    private void loadDetails() {
+        synchronized (withoutDetails) {
+            if (withoutDetails.isEmpty()) {
+                return;
+            }
+            int minInstalledRank = Integer.MAX_VALUE;
+            int maxInstalledRank = Integer.MIN_VALUE;
+            for (int installedRank : withoutDetails.keySet()) {
+                minInstalledRank = Math.min(minInstalledRank, installedRank);
+                maxInstalledRank = Math.max(maxInstalledRank, installedRank);
+            }
+            doLoadDetails(minInstalledRank, maxInstalledRank);
+            withoutDetails.clear();
+        }
+    }
+
+    private void doLoadDetails(int minInstalledRank, int maxInstalledRank) {
+        try {
+            jdbcTemplate.query(database.getSelectDetailsStatement(table, minInstalledRank, maxInstalledRank),
+                    FETCH_SIZE, new RowMapper<Void>() {
+                        public Void mapRow(final ResultSet rs) throws SQLException {
+                            AppliedMigration appliedMigration = withoutDetails.get(rs.getInt(1));
+                            if (appliedMigration != null) {
+                                appliedMigration.setDetails(rs.getString(2), rs.getTimestamp(3), rs.getString(4),
+                                        rs.getInt(5));
+                            }
+                            return null;
+                        }
+                    });
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Error while retrieving the details of the applied migrations from"
+                    + " Schema History table " + table, e);
+        }
+    }
+
+    /**
+     * Compares the number of rows and the sum of their checksums up to and including this installed rank with the
+     * cache. This is far cheaper than reading the rows again, but misses descriptions or types changed in place.
+     *
+     * @return {@code true} if the rows in the schema history table no longer match the cached ones.
+     */
+    private boolean cachedRowsChanged(int maxInstalledRank) {
+        long[] summary;
+        try {
+            summary = jdbcTemplate.query(database.getSelectChecksumSummaryStatement(table, maxInstalledRank),
+                    new RowMapper<long[]>() {
+                        public long[] mapRow(final ResultSet rs) throws SQLException {
+                            // The sum is NULL when no checksum is set, which getLong() returns as 0
+                            return new long[]{rs.getLong(1), rs.getLong(2)};
+                        }
+                    }).get(0);
+        } catch (SQLException e) {
+            throw new FlywaySqlException("Error while counting the applied migrations in Schema History table "
+                    + table, e);
+        }
+
+        long checksumSum = 0;
+        for (AppliedMigration appliedMigration : cache) {
+            if (appliedMigration.getChecksum() != null) {
+                checksumSum += appliedMigration.getChecksum();
+            }
+        }
+        return summary[0] != cache.size() || summary[1] != checksumSum;
+    }
+
     @Override
     public void removeFailedMigrations() {
         if (!exists()) {
@@ -246,6 +395,8 @@ class JdbcTableSchemaHistory extends SchemaHistory {
             clearCache();
             jdbcTemplate.execute("DELETE FROM " + table
                     + " WHERE " + database.quote("success") + " = " + database.getBooleanFalse());
+            // Again, as a shared cache may have been refreshed by another instance in the meantime
+            clearCache();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to repair Schema History table " + table, e);
         }
@@ -276,6 +427,8 @@ class JdbcTableSchemaHistory extends SchemaHistory {
                             + database.quote("checksum") + "=?"
                             + " WHERE " + database.quote("version") + "=?",
                     description, type, checksum, version);
+            // Again, as a shared cache may have been refreshed by another instance in the meantime
+            clearCache();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to repair Schema History table " + table
                     + " for version " + version, e);
@@ -36,6 +36,12 @@ public abstract class SchemaHistory {
      */
     protected Table table;
 
+    /**
+     * Whether only the summary of each applied migration needed to determine its state is read, with the remaining
+     * details loaded on first access.
+     */
+    protected boolean summaryProjection;
+
     /**
      * Acquires an exclusive read-write lock on the schema history table. This lock will be released automatically upon completion.
      *
@@ -53,6 +59,14 @@ public abstract class SchemaHistory {
      */
     public abstract void create();
 
+    /**
+     * Retrieves the table next to the schema history table holding the checkpoints of the SQL migrations applied in
+     * chunks. It is only created on demand.
+     *
+     * @return The checkpoint table.
+     */
+    public abstract CheckpointTable getCheckpointTable();
+
     /**
      * Checks whether the schema history table contains at least one non-synthetic applied migration.
      *
@@ -146,6 +160,16 @@ public abstract class SchemaHistory {
      */
     public abstract void update(AppliedMigration appliedMigration, ResolvedMigration resolvedMigration);
 
+    /**
+     * Reads only the summary of each applied migration needed to determine its state from now on, with its script,
+     * installation timestamp, installing user and execution time loaded on first access. Only to be used by commands
+     * which don't hand out the applied migrations once the connection has been closed. Ignored when the cache is
+     * shared, as it only ever holds fully loaded applied migrations.
+     */
+    public void useSummaryProjection() {
+        summaryProjection = true;
+    }
+
     /**
      * Clears the applied migration cache.
      */
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.schemahistory;
+
+import org.flywaydb.core.internal.database.base.Table;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The caches of applied migrations shared by all schema history instances in this process using the same data source
+ * and table. A cache is dropped together with its data source once that is no longer referenced anywhere else.
+ */
+final class SharedSchemaHistoryCache {
+    private static final Map<DataSource, Map<String, List<AppliedMigration>>> CACHES = new WeakHashMap<>();
+
+    private SharedSchemaHistoryCache() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Retrieves the cache for this schema history table. All access to it must be synchronized on the cache itself.
+     *
+     * @param dataSource The data source the table is accessed through.
+     * @param table      The schema history table.
+     * @return The cache, empty if the table hasn't been read through this data source yet.
+     */
+    static List<AppliedMigration> get(DataSource dataSource, Table table) {
+        synchronized (CACHES) {
+            Map<String, List<AppliedMigration>> tableCaches = CACHES.get(dataSource);
+            if (tableCaches == null) {
+                tableCaches = new HashMap<>();
+                CACHES.put(dataSource, tableCaches);
+            }
+            List<AppliedMigration> cache = tableCaches.get(table.toString());
+            if (cache == null) {
+                cache = new ArrayList<>();
+                tableCaches.put(table.toString(), cache);
+            }
+            return cache;
+        }
+    }
+}
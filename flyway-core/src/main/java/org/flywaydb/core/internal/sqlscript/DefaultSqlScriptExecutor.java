@@ -21,11 +21,15 @@ import org.flywaydb.core.api.callback.Warning;
 import org.flywaydb.core.api.logging.Log;
 import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
+import org.flywaydb.core.internal.callback.NoopCallbackExecutor;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.Result;
 import org.flywaydb.core.internal.jdbc.Results;
 import org.flywaydb.core.internal.util.AsciiTable;
 
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,46 +41,84 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * Whether consecutive batchable statements should be executed as a batch.
+     */
+    private final boolean batch;
+
+    /**
+     * The maximum number of statements per batch.
+     */
+    private final int batchSize;
+
+    /**
+     * Whether the driver supports batch updates. {@code null} until the first batch is about to be executed.
+     */
+    private Boolean batchSupported;
+
+    /**
+     * The rewriter for runs of INSERT statements with only literal values, or {@code null} to execute them as they are.
+     */
+    private final InsertRewriter insertRewriter;
+
+    /**
+     * Whether to reuse a single JDBC statement for the statements executed one by one.
+     */
+    private final boolean reuseStatements;
+
+    /**
+     * The chunker combining statements executed one by one into chunks sent at once, or {@code null} to send them
+     * individually.
+     */
+    private final StatementChunker statementChunker;
+
+    /**
+     * Whether statements can be combined into chunks, which requires a transaction to roll a failing chunk back to.
+     * {@code null} until the first chunk is about to be started.
+     */
+    private Boolean chunkingSupported;
+
+    /**
+     * The executor for the callbacks of the statement events.
+     */
+    private final CallbackExecutor callbackExecutor;
+
+    /**
+     * Whether statement events must be fired. This is only the case when callbacks have been registered, so that
+     * nothing needs to be prepared for each statement otherwise.
+     */
+    private final boolean fireStatementEvents;
+
+    /**
+     * The collector of the slowest statements, or {@code null} to not measure the execution time of statements.
+     */
+    private final SlowStatementCollector slowStatementCollector;
+
+    /**
+     * The policy limiting how long statements wait for locks and retrying those which gave up, or {@code null} to
+     * wait as long as the database does by default.
+     */
+    private final LockTimeoutPolicy lockTimeoutPolicy;
+
+    public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, false, 1, null, false, null, NoopCallbackExecutor.INSTANCE, null, null);
+    }
 
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-    public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate
-
-
-
-
-    ) {
+    public DefaultSqlScriptExecutor(JdbcTemplate jdbcTemplate, boolean batch, int batchSize,
+                                    InsertRewriter insertRewriter, boolean reuseStatements,
+                                    StatementChunker statementChunker, CallbackExecutor callbackExecutor,
+                                    SlowStatementCollector slowStatementCollector,
+                                    LockTimeoutPolicy lockTimeoutPolicy) {
         this.jdbcTemplate = jdbcTemplate;
-
-
-
-
-
-
+        this.batch = batch;
+        this.batchSize = batchSize;
+        this.insertRewriter = insertRewriter;
+        this.reuseStatements = reuseStatements;
+        this.statementChunker = statementChunker;
+        this.callbackExecutor = callbackExecutor;
+        this.fireStatementEvents = callbackExecutor.hasCallbacks();
+        this.slowStatementCollector = slowStatementCollector;
+        this.lockTimeoutPolicy = lockTimeoutPolicy;
     }
 
     @Override
@@ -89,10 +131,43 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
+        if (lockTimeoutPolicy != null) {
+            lockTimeoutPolicy.apply(jdbcTemplate);
+        }
+        List<SqlStatement> batchStatements = new ArrayList<>();
+        List<SqlStatement> chunkStatements = new ArrayList<>();
+        int chunkLength = 0;
+        // Leave a statement reused by the caller alone
+        boolean reuse = reuseStatements && !jdbcTemplate.isReuseStatement();
+        if (reuse) {
+            jdbcTemplate.setReuseStatement(true);
+        }
         try (SqlStatementIterator sqlStatementIterator = sqlScript.getSqlStatements()) {
             while (sqlStatementIterator.hasNext()) {
                 SqlStatement sqlStatement = sqlStatementIterator.next();
 
+                if (sqlStatement.isBatchable() && (insertRewriter != null || (batch && isBatchSupported()))) {
+                    executeChunk(jdbcTemplate, sqlScript, chunkStatements);
+                    batchStatements.add(sqlStatement);
+                    if (batchStatements.size() >= batchSize) {
+                        executePending(jdbcTemplate, sqlScript, batchStatements);
+                    }
+                    continue;
+                }
+                executePending(jdbcTemplate, sqlScript, batchStatements);
+
+                if (statementChunker != null && statementChunker.isChunkable(sqlStatement) && isChunkingSupported()) {
+                    if (!chunkStatements.isEmpty()
+                            && !statementChunker.fits(chunkStatements.size(), chunkLength, sqlStatement)) {
+                        executeChunk(jdbcTemplate, sqlScript, chunkStatements);
+                    }
+                    chunkLength = statementChunker.getChunkLength(chunkStatements.isEmpty() ? 0 : chunkLength,
+                            sqlStatement);
+                    chunkStatements.add(sqlStatement);
+                    continue;
+                }
+                executeChunk(jdbcTemplate, sqlScript, chunkStatements);
+
 
 
 
@@ -123,6 +198,15 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
+            }
+            executePending(jdbcTemplate, sqlScript, batchStatements);
+            executeChunk(jdbcTemplate, sqlScript, chunkStatements);
+        } finally {
+            if (reuse) {
+                jdbcTemplate.setReuseStatement(false);
+            }
+            if (lockTimeoutPolicy != null) {
+                lockTimeoutPolicy.reset(jdbcTemplate);
             }
         }
 
@@ -191,36 +275,365 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
 
 
-    private void executeStatement(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement) {
-        logStatementExecution(sqlStatement);
-        String sql = sqlStatement.getSql() + sqlStatement.getDelimiter();
+    private boolean isBatchSupported() {
+        if (batchSupported == null) {
+            try {
+                batchSupported = jdbcTemplate.getConnection().getMetaData().supportsBatchUpdates();
+            } catch (SQLException e) {
+                LOG.debug("Unable to check whether the driver supports batch updates: " + e.getMessage());
+                batchSupported = false;
+            }
+            if (!batchSupported) {
+                LOG.debug("Batch updates are not supported by the driver. Executing statements individually.");
+            }
+        }
+        return batchSupported;
+    }
+
+    private boolean isChunkingSupported() {
+        if (chunkingSupported == null) {
+            try {
+                chunkingSupported = !jdbcTemplate.getConnection().getAutoCommit();
+            } catch (SQLException e) {
+                LOG.debug("Unable to check whether a transaction is active: " + e.getMessage());
+                chunkingSupported = false;
+            }
+            if (!chunkingSupported) {
+                LOG.debug("Not executing in a transaction. Executing statements individually instead of in chunks.");
+            }
+        }
+        return chunkingSupported;
+    }
+
+    /**
+     * Executes the statements accumulated so far as a single chunk and clears them. When the chunk fails, it is rolled
+     * back to a savepoint and its statements are executed again one by one, so the failure is reported for the
+     * statement causing it exactly as without chunking. Their before statement events, fired once already for the
+     * chunk, aren't fired again then.
+     */
+    private void executeChunk(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> chunkStatements) {
+        try {
+            if (chunkStatements.isEmpty()) {
+                return;
+            }
+            Savepoint savepoint = chunkStatements.size() > 1 ? setSavepoint(jdbcTemplate) : null;
+            if (savepoint == null) {
+                for (SqlStatement sqlStatement : chunkStatements) {
+                    executeStatement(jdbcTemplate, sqlScript, sqlStatement);
+                }
+                return;
+            }
 
+            for (SqlStatement sqlStatement : chunkStatements) {
+                logStatementExecution(sqlStatement);
+            }
+            fireStatementEvents(Event.BEFORE_EACH_MIGRATE_STATEMENT, chunkStatements, null);
+            long start = startTiming();
+            Results results = jdbcTemplate.executeStatement(statementChunker.getChunkSql(chunkStatements));
+            if (results.getException() == null) {
+                recordTiming(sqlScript, chunkStatements, start, results);
+                releaseSavepoint(jdbcTemplate, savepoint);
+                fireStatementEvents(Event.AFTER_EACH_MIGRATE_STATEMENT, chunkStatements, results);
+                printWarnings(results);
+                handleResults(results
 
 
 
+                );
+                return;
+            }
 
+            try {
+                jdbcTemplate.getConnection().rollback(savepoint);
+            } catch (SQLException e) {
+                SqlStatement first = chunkStatements.get(0);
+                LOG.warn("Unable to roll back the chunk of statements between line " + first.getLineNumber()
+                        + " and line " + chunkStatements.get(chunkStatements.size() - 1).getLineNumber()
+                        + " to determine which of them failed. Reporting the first one.");
+                fireStatementEvent(Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, first, results);
+                printWarnings(results);
+                handleException(results, sqlScript, first);
+                return;
+            }
+            LOG.debug("Chunk of " + chunkStatements.size() + " statements failed. Executing them one by one.");
+            for (SqlStatement sqlStatement : chunkStatements) {
+                executeStatement(jdbcTemplate, sqlScript, sqlStatement, false);
+            }
+        } finally {
+            chunkStatements.clear();
+        }
+    }
 
-        Results results = sqlStatement.execute(jdbcTemplate
+    /**
+     * @return A new savepoint to roll back to, or {@code null} if it could not be set.
+     */
+    private static Savepoint setSavepoint(JdbcTemplate jdbcTemplate) {
+        try {
+            return jdbcTemplate.getConnection().setSavepoint();
+        } catch (SQLException e) {
+            LOG.debug("Unable to set savepoint: " + e.getMessage());
+            return null;
+        }
+    }
 
+    private static void releaseSavepoint(JdbcTemplate jdbcTemplate, Savepoint savepoint) {
+        try {
+            jdbcTemplate.getConnection().releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            // Not supported by all drivers. The savepoint is then simply released with the transaction.
+            LOG.debug("Unable to release savepoint: " + e.getMessage());
+        }
+    }
 
+    /**
+     * Executes the batchable statements accumulated so far and clears them. Runs of INSERT statements are rewritten
+     * first if enabled.
+     */
+    private void executePending(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> pendingStatements) {
+        if (insertRewriter == null) {
+            executeBatch(jdbcTemplate, sqlScript, pendingStatements);
+            return;
+        }
 
-        );
-        if (results.getException() != null) {
+        List<SqlStatement> batchStatements = new ArrayList<>();
+        InsertRewriter.Run run = null;
+        for (SqlStatement sqlStatement : pendingStatements) {
+            InsertRewriter.Insert insert = insertRewriter.parse(sqlStatement);
+            if (run != null && insert != null && run.add(insert)) {
+                continue;
+            }
+            if (run != null) {
+                executeRun(jdbcTemplate, sqlScript, run, batchStatements);
+            }
+            if (insert != null) {
+                run = new InsertRewriter.Run(insert);
+            } else {
+                run = null;
+                batchStatements.add(sqlStatement);
+            }
+        }
+        if (run != null) {
+            executeRun(jdbcTemplate, sqlScript, run, batchStatements);
+        }
+        executeBatch(jdbcTemplate, sqlScript, batchStatements);
+        pendingStatements.clear();
+    }
+
+    /**
+     * Executes this run of INSERT statements in its rewritten form, after the statements preceding it. A run consisting
+     * of a single statement is simply added to the statements preceding it instead.
+     */
+    private void executeRun(JdbcTemplate jdbcTemplate, SqlScript sqlScript, InsertRewriter.Run run,
+                            List<SqlStatement> batchStatements) {
+        if (run.getStatements().size() == 1 || (!insertRewriter.isMultiRow() && !isBatchSupported())) {
+            batchStatements.addAll(run.getStatements());
+            return;
+        }
+        executeBatch(jdbcTemplate, sqlScript, batchStatements);
 
+        for (SqlStatement sqlStatement : run.getStatements()) {
+            logStatementExecution(sqlStatement);
+        }
+        fireStatementEvents(Event.BEFORE_EACH_MIGRATE_STATEMENT, run.getStatements(), null);
+        List<SqlStatement> rowStatements = run.getRowStatements();
+        Results results;
+        if (insertRewriter.isMultiRow()) {
+            results = executeMultiRowRun(jdbcTemplate, sqlScript, run);
+        } else {
+            long start = startTiming();
+            results = jdbcTemplate.executeBatch(run.getPreparedSql(), run.getRowValues());
+            handleBatchResults(results, sqlScript, rowStatements, start);
+        }
+        fireStatementEvents(Event.AFTER_EACH_MIGRATE_STATEMENT, run.getStatements(), results);
+    }
 
+    /**
+     * Executes the rows of this run as multi-row VALUES statements. When one of them fails, it is rolled back to a
+     * savepoint and its rows are executed again one by one, so the failure is reported for the statement of the row
+     * causing it. Rows are executed again instead of their statements, as the rows of a statement may be spread across
+     * several multi-row statements. Outside a transaction nothing is executed again, as non-transactional storage
+     * engines keep the rows stored before the failing one, and the failure is reported for the whole statement.
+     *
+     * @return The results of the last statement executed.
+     */
+    private Results executeMultiRowRun(JdbcTemplate jdbcTemplate, SqlScript sqlScript, InsertRewriter.Run run) {
+        List<SqlStatement> rowStatements = run.getRowStatements();
+        int maxRows = insertRewriter.getMaxRowsPerStatement();
+        boolean inTransaction = isInTransaction(jdbcTemplate);
+        Results results;
+        int from = 0;
+        do {
+            int to = rowStatements.size() - from > maxRows ? from + maxRows : rowStatements.size();
+            Savepoint savepoint = inTransaction ? setSavepoint(jdbcTemplate) : null;
+            long start = startTiming();
+            results = jdbcTemplate.executeStatement(run.getMultiRowSql(from, to));
+            if (results.getException() == null) {
+                if (savepoint != null) {
+                    releaseSavepoint(jdbcTemplate, savepoint);
+                }
+                handleBatchResults(results, sqlScript, rowStatements.subList(from, to), start);
+            } else if (inTransaction && rollback(jdbcTemplate, savepoint)) {
+                LOG.debug("Multi-row INSERT of " + (to - from) + " rows failed. Executing them one by one.");
+                for (int i = from; i < to; i++) {
+                    start = startTiming();
+                    results = jdbcTemplate.executeStatement(run.getMultiRowSql(i, i + 1));
+                    handleBatchResults(results, sqlScript, rowStatements.subList(i, i + 1), start);
+                }
+            } else {
+                handleBatchResults(results, sqlScript, rowStatements.subList(from, to), start);
+            }
+            from = to;
+        } while (from < rowStatements.size());
+        return results;
+    }
 
+    /**
+     * Rolls back to this savepoint.
+     *
+     * @param savepoint The savepoint, or {@code null} if it could not be set.
+     * @return {@code true} if rolled back, {@code false} if not.
+     */
+    private static boolean rollback(JdbcTemplate jdbcTemplate, Savepoint savepoint) {
+        if (savepoint == null) {
+            return false;
+        }
+        try {
+            jdbcTemplate.getConnection().rollback(savepoint);
+            return true;
+        } catch (SQLException e) {
+            LOG.debug("Unable to roll back to savepoint: " + e.getMessage());
+            return false;
+        }
+    }
 
+    private static boolean isInTransaction(JdbcTemplate jdbcTemplate) {
+        try {
+            return !jdbcTemplate.getConnection().getAutoCommit();
+        } catch (SQLException e) {
+            LOG.debug("Unable to check whether a transaction is active: " + e.getMessage());
+            return false;
+        }
+    }
 
+    /**
+     * Executes the statements accumulated so far as a single batch, or individually if batching is disabled, and
+     * clears them.
+     */
+    private void executeBatch(JdbcTemplate jdbcTemplate, SqlScript sqlScript, List<SqlStatement> batchStatements) {
+        try {
+            if (batchStatements.isEmpty()) {
+                return;
+            }
+            if (batchStatements.size() == 1 || !batch || !isBatchSupported()) {
+                for (SqlStatement sqlStatement : batchStatements) {
+                    executeStatement(jdbcTemplate, sqlScript, sqlStatement);
+                }
+                return;
+            }
+
+            List<String> sqls = new ArrayList<>(batchStatements.size());
+            for (SqlStatement sqlStatement : batchStatements) {
+                logStatementExecution(sqlStatement);
+                sqls.add(sqlStatement.getSql());
+            }
+            fireStatementEvents(Event.BEFORE_EACH_MIGRATE_STATEMENT, batchStatements, null);
+            long start = startTiming();
+            Results results = jdbcTemplate.executeBatch(sqls);
+            handleBatchResults(results, sqlScript, batchStatements, start);
+            fireStatementEvents(Event.AFTER_EACH_MIGRATE_STATEMENT, batchStatements, results);
+        } finally {
+            batchStatements.clear();
+        }
+    }
+
+    /**
+     * Handles the results of executing these statements at once, mapping a failure back to the statement causing it.
+     */
+    private void handleBatchResults(Results results, SqlScript sqlScript, List<SqlStatement> statements,
+                                    long start) {
+        if (results.getException() != null) {
+            SqlStatement failedStatement = getFailedStatement(statements, results.getException());
+            fireStatementEvent(Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, failedStatement, results);
             printWarnings(results);
-            handleException(results, sqlScript, sqlStatement);
+            handleException(results, sqlScript, failedStatement);
             return;
         }
+        recordTiming(sqlScript, statements, start, results);
+        printWarnings(results);
+        handleResults(results
 
 
 
+        );
+    }
+
+    /**
+     * Determines which statement of this batch caused it to fail, based on the update counts reported by the driver.
+     */
+    private static SqlStatement getFailedStatement(List<SqlStatement> batchStatements, SQLException e) {
+        if (e instanceof BatchUpdateException) {
+            int[] updateCounts = ((BatchUpdateException) e).getUpdateCounts();
+            if (updateCounts != null) {
+                // Drivers continuing after a failure mark the failed statements
+                for (int i = 0; i < updateCounts.length && i < batchStatements.size(); i++) {
+                    if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                        return batchStatements.get(i);
+                    }
+                }
+                // Drivers stopping at the first failure only report the statements executed before it
+                if (updateCounts.length < batchStatements.size()) {
+                    return batchStatements.get(updateCounts.length);
+                }
+            }
+        }
+        SqlStatement first = batchStatements.get(0);
+        SqlStatement last = batchStatements.get(batchStatements.size() - 1);
+        if (first != last) {
+            LOG.warn("Unable to determine which statement of the batch between line " + first.getLineNumber()
+                    + " and line " + last.getLineNumber() + " failed. Reporting the first one.");
+        }
+        return first;
+    }
+
+    private void executeStatement(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement) {
+        executeStatement(jdbcTemplate, sqlScript, sqlStatement, true);
+    }
+
+    /**
+     * Executes this statement on its own.
+     *
+     * @param fireBeforeEvent Whether to fire its before statement event, as opposed to it having been fired already.
+     */
+    private void executeStatement(JdbcTemplate jdbcTemplate, SqlScript sqlScript, SqlStatement sqlStatement,
+                                  boolean fireBeforeEvent) {
+        logStatementExecution(sqlStatement);
+        if (fireBeforeEvent) {
+            fireStatementEvent(Event.BEFORE_EACH_MIGRATE_STATEMENT, sqlStatement, null);
+        }
+        long start;
+        Results results;
+        int attempt = 0;
+        while (true) {
+            start = startTiming();
+            results = sqlStatement.execute(jdbcTemplate
 
 
 
+            );
+            if (results.getException() == null || !isRetryable(results, attempt)) {
+                break;
+            }
+            lockTimeoutPolicy.backoff("Statement at line " + sqlStatement.getLineNumber() + " of "
+                    + sqlScript.getResource().getFilename(), attempt++);
+        }
+        if (results.getException() != null) {
+            fireStatementEvent(Event.AFTER_EACH_MIGRATE_STATEMENT_ERROR, sqlStatement, results);
+            printWarnings(results);
+            handleException(results, sqlScript, sqlStatement);
+            return;
+        }
+        recordTiming(sqlScript, Collections.singletonList(sqlStatement), start, results);
+        fireStatementEvent(Event.AFTER_EACH_MIGRATE_STATEMENT, sqlStatement, results);
         printWarnings(results);
         handleResults(results
 
@@ -274,18 +687,95 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
 
     private void printWarnings(Results results) {
         for (Warning warning : results.getWarnings()) {
-
-
-
+            // Warnings handled by a callback don't flow via the default handler
+            if (!warning.isHandled()) {
                 if ("00000".equals(warning.getState())) {
                     LOG.info("DB: " + warning.getMessage());
                 } else {
                     LOG.warn("DB: " + warning.getMessage()
                             + " (SQL State: " + warning.getState() + " - Error Code: " + warning.getCode() + ")");
                 }
+            }
+        }
+    }
 
+    /**
+     * @return Whether the statement which failed with these results gave up waiting for a lock and can be retried on
+     * its own. This is only the case outside a transaction, where the failed statement had no effect at all.
+     */
+    private boolean isRetryable(Results results, int attempt) {
+        if (lockTimeoutPolicy == null || !lockTimeoutPolicy.isRetryable(results.getException(), attempt)) {
+            return false;
+        }
+        try {
+            return jdbcTemplate.getConnection().getAutoCommit();
+        } catch (SQLException e) {
+            LOG.debug("Unable to check whether a transaction is active: " + e.getMessage());
+            return false;
+        }
+    }
 
+    /**
+     * Fires this statement event for each of these statements, if any callbacks have been registered.
+     *
+     * @param results The results of the statements, or {@code null} if they haven't been executed yet.
+     */
+    private void fireStatementEvents(Event event, List<SqlStatement> sqlStatements, Results results) {
+        if (fireStatementEvents) {
+            for (SqlStatement sqlStatement : sqlStatements) {
+                fireStatementEvent(event, sqlStatement, results);
+            }
+        }
+    }
 
+    /**
+     * Fires this statement event for this statement, if any callbacks have been registered.
+     *
+     * @param results The results of the statement, or {@code null} if it hasn't been executed yet.
+     */
+    private void fireStatementEvent(Event event, SqlStatement sqlStatement, Results results) {
+        if (fireStatementEvents) {
+            callbackExecutor.onEachSqlStatementEvent(event, sqlStatement.getSql() + sqlStatement.getDelimiter(),
+                    results == null ? Collections.<Warning>emptyList() : results.getWarnings(),
+                    results == null ? Collections.<Error>emptyList() : results.getErrors());
+        }
+    }
+
+    /**
+     * @return The time at which the execution of statements starts, if the slowest statements are being collected.
+     */
+    private long startTiming() {
+        return slowStatementCollector == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Records the execution of these statements, sent together, if the slowest statements are being collected.
+     *
+     * @param sqlStatements The statements, with one entry per row for rewritten INSERT statements.
+     * @param start         The time at which their execution started.
+     * @param results       The results of their execution.
+     */
+    private void recordTiming(SqlScript sqlScript, List<SqlStatement> sqlStatements, long start, Results results) {
+        if (slowStatementCollector == null) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+
+        int statementCount = 0;
+        SqlStatement previous = null;
+        for (SqlStatement sqlStatement : sqlStatements) {
+            if (sqlStatement != previous) {
+                statementCount++;
+                previous = sqlStatement;
+            }
+        }
+        long updateCount = -1;
+        for (Result result : results.getResults()) {
+            if (result.getUpdateCount() >= 0) {
+                updateCount = (updateCount < 0 ? 0 : updateCount) + result.getUpdateCount();
+            }
         }
+        slowStatementCollector.record(sqlScript.getResource().getFilename(), sqlStatements.get(0).getLineNumber(),
+                statementCount, duration, updateCount);
     }
 }
\ No newline at end of file
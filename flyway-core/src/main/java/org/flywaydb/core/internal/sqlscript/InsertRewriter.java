@@ -0,0 +1,374 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites runs of INSERT statements with only literal values into the same table and columns, so the database only
+ * has to parse a single statement for all of them. Depending on what the database supports, the rows of a run are
+ * either combined into multi-row VALUES statements or bound to a single prepared statement executed as a batch.
+ * <p>Only plain string literals, numeric literals and NULL are accepted as values. Statements containing anything
+ * else are not rewritten and must be executed as they are.</p>
+ */
+public class InsertRewriter {
+    /**
+     * Matches the start of an INSERT statement up to its values.
+     */
+    private static final Pattern INSERT_PATTERN = Pattern.compile(
+            "INSERT\\s+INTO\\s+([\\w.$#\"`\\[\\]]+)\\s*(\\([^()']*\\))?\\s*VALUES\\s*", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Matches a numeric literal.
+     */
+    private static final Pattern NUMBER_PATTERN =
+            Pattern.compile("[+-]?(\\d+(\\.\\d*)?|\\.\\d+)([eE][+-]?\\d+)?(?![\\w.])");
+
+    /**
+     * Matches the NULL literal.
+     */
+    private static final Pattern NULL_PATTERN = Pattern.compile("NULL(?!\\w)", Pattern.CASE_INSENSITIVE);
+
+    private static final int NULL = 0;
+    private static final int STRING = 1;
+    private static final int NUMBER = 2;
+
+    /**
+     * The maximum number of rows per multi-row VALUES statement, or 0 to use a batched prepared statement instead.
+     */
+    private final int maxRowsPerStatement;
+
+    /**
+     * Creates a new insert rewriter.
+     *
+     * @param maxRowsPerStatement The maximum number of rows the database accepts in a single multi-row VALUES
+     *                            statement, or 0 if it doesn't support them and a batched prepared statement must be
+     *                            used instead.
+     */
+    public InsertRewriter(int maxRowsPerStatement) {
+        this.maxRowsPerStatement = maxRowsPerStatement;
+    }
+
+    /**
+     * @return Whether rows are combined into multi-row VALUES statements instead of a batched prepared statement.
+     */
+    boolean isMultiRow() {
+        return maxRowsPerStatement > 0;
+    }
+
+    /**
+     * @return The maximum number of rows per multi-row VALUES statement.
+     */
+    int getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    /**
+     * Parses this statement as an INSERT with only literal values.
+     *
+     * @param sqlStatement The statement to parse.
+     * @return The parsed INSERT, or {@code null} if this statement can't be safely rewritten.
+     */
+    Insert parse(SqlStatement sqlStatement) {
+        String sql = sqlStatement.getSql();
+        Matcher matcher = INSERT_PATTERN.matcher(sql);
+        if (!matcher.lookingAt()) {
+            return null;
+        }
+
+        List<String[]> tuples = new ArrayList<>();
+        List<int[]> kinds = new ArrayList<>();
+        int pos = matcher.end();
+        while (true) {
+            if (pos >= sql.length() || sql.charAt(pos) != '(') {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            List<Integer> valueKinds = new ArrayList<>();
+            do {
+                pos = skipWhitespace(sql, pos + 1);
+                int end = parseValue(sql, pos);
+                if (end < 0) {
+                    return null;
+                }
+                String value = sql.substring(pos, end);
+                values.add(value);
+                valueKinds.add(kindOf(value));
+                pos = skipWhitespace(sql, end);
+            } while (pos < sql.length() && sql.charAt(pos) == ',');
+            if (pos >= sql.length() || sql.charAt(pos) != ')') {
+                return null;
+            }
+            if (!tuples.isEmpty() && values.size() != tuples.get(0).length) {
+                return null;
+            }
+            tuples.add(values.toArray(new String[0]));
+            int[] tupleKinds = new int[valueKinds.size()];
+            for (int i = 0; i < tupleKinds.length; i++) {
+                tupleKinds[i] = valueKinds.get(i);
+            }
+            kinds.add(tupleKinds);
+
+            pos = skipWhitespace(sql, pos + 1);
+            if (pos == sql.length()) {
+                break;
+            }
+            if (sql.charAt(pos) != ',') {
+                return null;
+            }
+            pos = skipWhitespace(sql, pos + 1);
+        }
+
+        String columns = matcher.group(2);
+        return new Insert(sqlStatement, sql.substring(0, matcher.end()),
+                matcher.group(1) + (columns == null ? "" : columns), tuples, kinds);
+    }
+
+    private static int skipWhitespace(String sql, int pos) {
+        while (pos < sql.length() && Character.isWhitespace(sql.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Parses the literal value starting at this position.
+     *
+     * @return The position right after the value, or -1 if it isn't a literal which can be safely rewritten.
+     */
+    private int parseValue(String sql, int pos) {
+        if (pos >= sql.length()) {
+            return -1;
+        }
+
+        if (sql.charAt(pos) == '\'') {
+            int i = pos + 1;
+            while (i < sql.length()) {
+                char c = sql.charAt(i);
+                if (c == '\\' && !isMultiRow()) {
+                    // Backslash escapes depend on the database and its settings
+                    return -1;
+                }
+                if (c == '\'') {
+                    if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                        i += 2;
+                        continue;
+                    }
+                    return i + 1;
+                }
+                i++;
+            }
+            return -1;
+        }
+
+        Matcher matcher = NULL_PATTERN.matcher(sql).region(pos, sql.length());
+        if (matcher.lookingAt()) {
+            return matcher.end();
+        }
+        matcher = NUMBER_PATTERN.matcher(sql).region(pos, sql.length());
+        if (matcher.lookingAt()) {
+            return matcher.end();
+        }
+        return -1;
+    }
+
+    private static int kindOf(String value) {
+        if (value.charAt(0) == '\'') {
+            return STRING;
+        }
+        return NULL_PATTERN.matcher(value).matches() ? NULL : NUMBER;
+    }
+
+    /**
+     * Converts this literal into the value to bind to a prepared statement.
+     */
+    private static Object toBindValue(String value, int kind) {
+        if (kind == STRING) {
+            return value.substring(1, value.length() - 1).replace("''", "'");
+        }
+        if (kind == NUMBER) {
+            return new BigDecimal(value);
+        }
+        return null;
+    }
+
+    /**
+     * An INSERT statement with only literal values.
+     */
+    static class Insert {
+        private final SqlStatement sqlStatement;
+
+        /**
+         * The statement up to its values, including the VALUES keyword.
+         */
+        private final String prefix;
+
+        /**
+         * The table and column list, identifying the statements which can be combined.
+         */
+        private final String target;
+
+        private final List<String[]> tuples;
+        private final List<int[]> kinds;
+
+        private Insert(SqlStatement sqlStatement, String prefix, String target, List<String[]> tuples,
+                       List<int[]> kinds) {
+            this.sqlStatement = sqlStatement;
+            this.prefix = prefix;
+            this.target = target;
+            this.tuples = tuples;
+            this.kinds = kinds;
+        }
+    }
+
+    /**
+     * A run of INSERT statements into the same table and columns, whose values are of the same kind in each column.
+     * Requiring the same kind keeps the database from resolving a different type for a column when rows are combined.
+     */
+    static class Run {
+        private final String prefix;
+        private final String target;
+
+        /**
+         * The kind of the values in each column, or NULL while only NULL values have been seen.
+         */
+        private final int[] columnKinds;
+
+        private final List<SqlStatement> statements = new ArrayList<>();
+        private final List<SqlStatement> rowStatements = new ArrayList<>();
+        private final List<String[]> rows = new ArrayList<>();
+        private final List<int[]> rowKinds = new ArrayList<>();
+
+        /**
+         * Starts a new run with this statement.
+         *
+         * @param insert The first statement of the run.
+         */
+        Run(Insert insert) {
+            this.prefix = insert.prefix;
+            this.target = insert.target;
+            this.columnKinds = new int[insert.tuples.get(0).length];
+            add(insert);
+        }
+
+        /**
+         * Adds this statement to the run if it is compatible with the statements already part of it.
+         *
+         * @param insert The statement to add.
+         * @return {@code true} if it was added, {@code false} if it must be part of a different run.
+         */
+        boolean add(Insert insert) {
+            if (!target.equals(insert.target) || insert.tuples.get(0).length != columnKinds.length) {
+                return false;
+            }
+            int[] kinds = columnKinds.clone();
+            for (int[] tupleKinds : insert.kinds) {
+                for (int i = 0; i < kinds.length; i++) {
+                    if (tupleKinds[i] != NULL) {
+                        if (kinds[i] != NULL && kinds[i] != tupleKinds[i]) {
+                            return false;
+                        }
+                        kinds[i] = tupleKinds[i];
+                    }
+                }
+            }
+            System.arraycopy(kinds, 0, columnKinds, 0, kinds.length);
+
+            statements.add(insert.sqlStatement);
+            for (int i = 0; i < insert.tuples.size(); i++) {
+                rowStatements.add(insert.sqlStatement);
+                rows.add(insert.tuples.get(i));
+                rowKinds.add(insert.kinds.get(i));
+            }
+            return true;
+        }
+
+        /**
+         * @return The statements part of this run.
+         */
+        List<SqlStatement> getStatements() {
+            return statements;
+        }
+
+        /**
+         * @return The statement each row originates from.
+         */
+        List<SqlStatement> getRowStatements() {
+            return rowStatements;
+        }
+
+        /**
+         * Builds a multi-row VALUES statement for these rows, with their literals unchanged.
+         *
+         * @param from The index of the first row (inclusive).
+         * @param to   The index of the last row (exclusive).
+         * @return The statement.
+         */
+        String getMultiRowSql(int from, int to) {
+            StringBuilder sql = new StringBuilder(prefix);
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    sql.append(", ");
+                }
+                sql.append('(');
+                String[] row = rows.get(i);
+                for (int j = 0; j < row.length; j++) {
+                    if (j > 0) {
+                        sql.append(", ");
+                    }
+                    sql.append(row[j]);
+                }
+                sql.append(')');
+            }
+            return sql.toString();
+        }
+
+        /**
+         * @return The prepared statement to which the values of all rows can be bound.
+         */
+        String getPreparedSql() {
+            StringBuilder sql = new StringBuilder(prefix).append('(');
+            for (int i = 0; i < columnKinds.length; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append('?');
+            }
+            return sql.append(')').toString();
+        }
+
+        /**
+         * @return The values of all rows to bind to the prepared statement.
+         */
+        List<Object[]> getRowValues() {
+            List<Object[]> rowValues = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                String[] row = rows.get(i);
+                int[] kinds = rowKinds.get(i);
+                Object[] values = new Object[row.length];
+                for (int j = 0; j < row.length; j++) {
+                    values[j] = toBindValue(row[j], kinds[j]);
+                }
+                rowValues.add(values);
+            }
+            return rowValues;
+        }
+    }
+}
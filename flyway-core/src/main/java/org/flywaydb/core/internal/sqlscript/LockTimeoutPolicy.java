@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.logging.Log;
+import org.flywaydb.core.api.logging.LogFactory;
+import org.flywaydb.core.internal.database.base.Database;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Limits how long the statements of a migration wait for locks held by others, and retries those which gave up
+ * waiting after a randomized delay growing exponentially with each attempt.
+ * <p>Whether a statement or migration can be safely retried is up to the caller. This is only the case when the
+ * failure had no effect at all, either because the statement was executed on its own outside a transaction, or
+ * because the transaction it was part of has been rolled back.</p>
+ */
+public class LockTimeoutPolicy {
+    private static final Log LOG = LogFactory.getLog(LockTimeoutPolicy.class);
+
+    /**
+     * The maximum delay before the first retry, in milliseconds.
+     */
+    private static final long INITIAL_BACKOFF = 100;
+
+    /**
+     * The maximum delay before any retry, in milliseconds.
+     */
+    private static final long MAX_BACKOFF = 10000;
+
+    private final Database database;
+
+    /**
+     * The number of milliseconds each statement may wait for a lock, or 0 to wait as long as the database does by
+     * default.
+     */
+    private final int lockTimeout;
+
+    /**
+     * The number of times a statement or migration which gave up waiting for a lock is retried.
+     */
+    private final int retries;
+
+    /**
+     * Creates a new lock timeout policy.
+     *
+     * @param database    The database the statements are executed against.
+     * @param lockTimeout The number of milliseconds each statement may wait for a lock, or 0 to wait as long as the
+     *                    database does by default.
+     * @param retries     The number of times a statement or migration which gave up waiting for a lock is retried.
+     */
+    public LockTimeoutPolicy(Database database, int lockTimeout, int retries) {
+        this.database = database;
+        this.lockTimeout = lockTimeout;
+        this.retries = retries;
+    }
+
+    /**
+     * Applies the lock timeout to the statements executed from now on with this template. Where the database has no
+     * lock timeout, statements keep waiting as long as they do by default.
+     *
+     * @param jdbcTemplate The template for the connection of the migration.
+     */
+    public void apply(JdbcTemplate jdbcTemplate) {
+        if (lockTimeout == 0) {
+            return;
+        }
+        String sql = database.getLockTimeoutStatement(lockTimeout);
+        if (sql == null) {
+            LOG.debug("Lock timeout not supported by this database. Ignoring it.");
+            return;
+        }
+        // Executed as an ordinary statement, as some drivers scope settings made by prepared statements to them
+        SQLException e = jdbcTemplate.executeStatement(sql).getException();
+        if (e != null) {
+            throw new FlywaySqlException("Unable to set lock timeout to " + lockTimeout + " ms", e);
+        }
+    }
+
+    /**
+     * Restores the default lock timeout for the statements executed from now on with this template.
+     *
+     * @param jdbcTemplate The template for the connection of the migration.
+     */
+    public void reset(JdbcTemplate jdbcTemplate) {
+        if (lockTimeout == 0) {
+            return;
+        }
+        String sql = database.getResetLockTimeoutStatement();
+        if (sql == null) {
+            return;
+        }
+        SQLException e = jdbcTemplate.executeStatement(sql).getException();
+        if (e != null) {
+            // Fails when the transaction has been aborted, whose rollback then restores the timeout anyway
+            LOG.debug("Unable to restore the default lock timeout: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether a statement or migration failing with this exception should be retried, provided its failure had
+     * no effect at all.
+     *
+     * @param e       The exception it failed with.
+     * @param attempt The number of times it has been retried so far.
+     * @return {@code true} if it gave up waiting for a lock and the retries haven't been used up yet.
+     */
+    public boolean isRetryable(Throwable e, int attempt) {
+        if (attempt >= retries) {
+            return false;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                for (SQLException next = (SQLException) cause; next != null; next = next.getNextException()) {
+                    if (database.isLockTimeout(next)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits before the next retry for a randomized delay, growing exponentially with each attempt so that competing
+     * retries spread out instead of piling up on the lock again.
+     *
+     * @param what    The statement or migration about to be retried.
+     * @param attempt The number of times it has been retried so far.
+     */
+    public void backoff(String what, int attempt) {
+        long max = Math.min(MAX_BACKOFF, INITIAL_BACKOFF << Math.min(attempt, 16));
+        long delay = ThreadLocalRandom.current().nextLong(max / 2, max + 1);
+        LOG.warn(what + " gave up waiting for a lock. Retrying in " + delay + " ms (retry " + (attempt + 1)
+                + " of " + retries + ")");
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while waiting to retry " + what, e);
+        }
+    }
+}
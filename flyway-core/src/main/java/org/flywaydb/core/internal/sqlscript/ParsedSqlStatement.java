@@ -46,6 +46,11 @@ public class ParsedSqlStatement implements SqlStatement {
 
     private final boolean canExecuteInTransaction;
 
+    /**
+     * Whether this statement can be executed as part of a batch.
+     */
+    private final boolean batchable;
+
 
 
 
@@ -54,7 +59,7 @@ public class ParsedSqlStatement implements SqlStatement {
 
 
     public ParsedSqlStatement(int pos, int line, int col, String sql, Delimiter delimiter,
-                              boolean canExecuteInTransaction
+                              boolean canExecuteInTransaction, boolean batchable
 
 
 
@@ -65,6 +70,7 @@ public class ParsedSqlStatement implements SqlStatement {
         this.sql = sql;
         this.delimiter = delimiter;
         this.canExecuteInTransaction = canExecuteInTransaction;
+        this.batchable = batchable;
 
 
 
@@ -90,6 +96,11 @@ public class ParsedSqlStatement implements SqlStatement {
         return canExecuteInTransaction;
     }
 
+    @Override
+    public boolean isBatchable() {
+        return batchable;
+    }
+
 
 
 
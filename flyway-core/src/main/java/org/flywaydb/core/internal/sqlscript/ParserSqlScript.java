@@ -48,6 +48,16 @@ public class ParserSqlScript implements SqlScript {
      */
     protected final LoadableResource resource;
 
+    /**
+     * The parser used to parse the resource.
+     */
+    private final Parser parser;
+
+    /**
+     * Whether statements should be streamed from the resource instead of being kept in memory.
+     */
+    private final boolean stream;
+
 
 
 
@@ -62,6 +72,8 @@ public class ParserSqlScript implements SqlScript {
      */
     public ParserSqlScript(Parser parser, LoadableResource resource, boolean mixed) {
         this.resource = resource;
+        this.parser = parser;
+        this.stream = parser.getConfiguration().isStream();
 
 
 
@@ -74,7 +86,9 @@ public class ParserSqlScript implements SqlScript {
 
 
 
+                if (!stream) {
                     this.sqlStatements.add(sqlStatement);
+                }
 
 
 
@@ -90,8 +104,8 @@ public class ParserSqlScript implements SqlScript {
                 if (!mixed && transactionalStatementFound && nonTransactionalStatementFound) {
                     throw new FlywayException(
                             "Detected both transactional and non-transactional statements within the same migration"
-                                    + " (even though mixed is false). Offending statement found at line "
-                                    + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql()
+                                    + " (even though mixed is false). Offending statement found in " + resource.getFilename()
+                                    + " at line " + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql()
                                     + (sqlStatement.canExecuteInTransaction() ? "" : " [non-transactional]"));
                 }
 
@@ -113,6 +127,9 @@ public class ParserSqlScript implements SqlScript {
 
     @Override
     public SqlStatementIterator getSqlStatements() {
+        if (stream) {
+            return parser.parse(resource);
+        }
 
 
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Collects the slowest statements executed, up to a fixed number of them. Only statements slower than the fastest one
+ * collected so far are kept once that number has been reached, so collecting costs nothing for the vast majority of
+ * statements.
+ */
+public class SlowStatementCollector {
+    /**
+     * Orders statements from the fastest to the slowest.
+     */
+    private static final Comparator<SlowStatement> BY_DURATION = new Comparator<SlowStatement>() {
+        @Override
+        public int compare(SlowStatement o1, SlowStatement o2) {
+            return Long.compare(o1.duration, o2.duration);
+        }
+    };
+
+    /**
+     * The maximum number of statements to collect.
+     */
+    private final int max;
+
+    /**
+     * The statements collected so far, with the fastest one at the head.
+     */
+    private final PriorityQueue<SlowStatement> slowest;
+
+    /**
+     * Creates a new collector.
+     *
+     * @param max The maximum number of statements to collect.
+     */
+    public SlowStatementCollector(int max) {
+        this.max = max;
+        this.slowest = new PriorityQueue<>(max, BY_DURATION);
+    }
+
+    /**
+     * Records the execution of this statement, or of these statements sent together.
+     *
+     * @param script         The script containing the statement.
+     * @param lineNumber     The line at which the statement starts.
+     * @param statementCount The number of statements sent together, starting at this line.
+     * @param duration       The time taken to execute them (in ns).
+     * @param updateCount    The total number of rows updated, or -1 if none of them reported an update count.
+     */
+    public void record(String script, int lineNumber, int statementCount, long duration, long updateCount) {
+        if (isSlowEnough(duration)) {
+            add(new SlowStatement(script, lineNumber, statementCount, duration, updateCount));
+        }
+    }
+
+    /**
+     * Adds these statements collected elsewhere.
+     *
+     * @param slowStatements The statements to add.
+     */
+    public void addAll(Collection<SlowStatement> slowStatements) {
+        for (SlowStatement slowStatement : slowStatements) {
+            if (isSlowEnough(slowStatement.duration)) {
+                add(slowStatement);
+            }
+        }
+    }
+
+    private boolean isSlowEnough(long duration) {
+        return slowest.size() < max || duration > slowest.peek().duration;
+    }
+
+    private void add(SlowStatement slowStatement) {
+        if (slowest.size() >= max) {
+            slowest.poll();
+        }
+        slowest.add(slowStatement);
+    }
+
+    /**
+     * @return The statements collected, from the slowest to the fastest.
+     */
+    public List<SlowStatement> getSlowStatements() {
+        List<SlowStatement> slowStatements = new ArrayList<>(slowest);
+        Collections.sort(slowStatements, Collections.reverseOrder(BY_DURATION));
+        return slowStatements;
+    }
+
+    /**
+     * A statement, or statements sent together, whose execution was slow.
+     */
+    public static class SlowStatement {
+        private final String script;
+        private final int lineNumber;
+        private final int statementCount;
+        private final long duration;
+        private final long updateCount;
+
+        private SlowStatement(String script, int lineNumber, int statementCount, long duration, long updateCount) {
+            this.script = script;
+            this.lineNumber = lineNumber;
+            this.statementCount = statementCount;
+            this.duration = duration;
+            this.updateCount = updateCount;
+        }
+
+        /**
+         * @return The script containing the statement.
+         */
+        public String getScript() {
+            return script;
+        }
+
+        /**
+         * @return The line at which the statement starts.
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * @return The number of statements sent together, starting at this line.
+         */
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * @return The time taken to execute the statement (in ns).
+         */
+        public long getDuration() {
+            return duration;
+        }
+
+        /**
+         * @return The total number of rows updated, or -1 if no update count was reported.
+         */
+        public long getUpdateCount() {
+            return updateCount;
+        }
+    }
+}
@@ -46,6 +46,14 @@ public interface SqlStatement {
      */
     boolean canExecuteInTransaction();
 
+    /**
+     * Whether this statement can be sent to the database as part of a batch with other batchable statements. This is
+     * the case for INSERT, UPDATE, DELETE, MERGE and UPSERT statements which don't return any results.
+     *
+     * @return {@code true} if it can, {@code false} if it must be executed individually.
+     */
+    boolean isBatchable();
+
 
 
 
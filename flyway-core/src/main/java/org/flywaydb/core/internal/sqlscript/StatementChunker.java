@@ -0,0 +1,113 @@
+/*
+ * Copyright 2010-2019 Boxfuse GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import java.util.List;
+
+/**
+ * Combines consecutive statements into chunks sent to the database in a single round trip, for databases able to
+ * execute multiple statements at once. The statement boundaries found by the parser are kept by separating the
+ * statements of a chunk with the semicolon delimiter.
+ * <p>Only transactional statements ending with the default delimiter are combined, as a failing chunk must be rolled
+ * back before its statements are executed again one by one to find out which of them failed.</p>
+ */
+public class StatementChunker {
+    /**
+     * The maximum length of the SQL of a chunk, which keeps it well within the packet size limits of drivers.
+     */
+    private static final int MAX_CHUNK_LENGTH = 512 * 1024;
+
+    /**
+     * The separator between the statements of a chunk. The delimiter is on a line of its own, so it can't end up in a
+     * trailing single-line comment of the preceding statement.
+     */
+    private static final String SEPARATOR = "\n;\n";
+
+    /**
+     * The maximum number of statements per chunk.
+     */
+    private final int chunkSize;
+
+    /**
+     * The delimiter the statements of a chunk must end with.
+     */
+    private final Delimiter delimiter;
+
+    /**
+     * Creates a new statement chunker.
+     *
+     * @param chunkSize The maximum number of statements per chunk.
+     * @param delimiter The default delimiter of the database, which the statements of a chunk must end with.
+     */
+    public StatementChunker(int chunkSize, Delimiter delimiter) {
+        this.chunkSize = chunkSize;
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Checks whether this statement can be combined with others into a chunk.
+     *
+     * @param sqlStatement The statement to check.
+     * @return {@code true} if it can, {@code false} if it must be executed on its own.
+     */
+    public boolean isChunkable(SqlStatement sqlStatement) {
+        return sqlStatement.canExecuteInTransaction()
+                && delimiter.toString().equals(sqlStatement.getDelimiter())
+                && sqlStatement.getSql().length() < MAX_CHUNK_LENGTH;
+    }
+
+    /**
+     * Checks whether this statement can still be added to a chunk.
+     *
+     * @param chunkStatements The number of statements of the chunk so far.
+     * @param chunkLength     The length of the SQL of the chunk so far.
+     * @param sqlStatement    The statement to add.
+     * @return {@code true} if it can, {@code false} if the chunk is full.
+     */
+    boolean fits(int chunkStatements, int chunkLength, SqlStatement sqlStatement) {
+        return chunkStatements < chunkSize && getChunkLength(chunkLength, sqlStatement) <= MAX_CHUNK_LENGTH;
+    }
+
+    /**
+     * Calculates the length of the SQL of a chunk once this statement has been added to it.
+     *
+     * @param chunkLength  The length of the SQL of the chunk so far, or 0 if it is empty.
+     * @param sqlStatement The statement to add.
+     * @return The new length.
+     */
+    int getChunkLength(int chunkLength, SqlStatement sqlStatement) {
+        return chunkLength == 0
+                ? sqlStatement.getSql().length()
+                : chunkLength + SEPARATOR.length() + sqlStatement.getSql().length();
+    }
+
+    /**
+     * Builds the SQL sending all statements of this chunk at once.
+     *
+     * @param chunk The statements of the chunk.
+     * @return The SQL of the chunk.
+     */
+    String getChunkSql(List<SqlStatement> chunk) {
+        StringBuilder sql = new StringBuilder();
+        for (SqlStatement sqlStatement : chunk) {
+            if (sql.length() > 0) {
+                sql.append(SEPARATOR);
+            }
+            sql.append(sqlStatement.getSql());
+        }
+        return sql.toString();
+    }
+}
@@ -50,4 +50,21 @@ public class BomStrippingReader extends FilterReader {
         }
         return c;
     }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int count = super.read(cbuf, off, len);
+        if (firstChar && count != EMPTY_STREAM) {
+            firstChar = false;
+            if (count > 0 && cbuf[off] == BOM) {
+                // Skip BOM
+                System.arraycopy(cbuf, off + 1, cbuf, off, count - 1);
+                if (count == 1) {
+                    return super.read(cbuf, off, len);
+                }
+                return count - 1;
+            }
+        }
+        return count;
+    }
 }
\ No newline at end of file
@@ -190,6 +190,14 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      */
     public String repeatableSqlMigrationPrefix;
 
+    /**
+     * The file name prefix for CSV migrations (default: D).
+     * <p>CSV migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTION.csv ,
+     * which using the defaults translates to D1_1__My_table.csv</p>
+     * <p>Also configurable with Gradle or System Property: ${flyway.csvMigrationPrefix}</p>
+     */
+    public String csvMigrationPrefix;
+
     /**
      * The file name prefix for Sql migrations
      * <p>Sql migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTIONsuffix ,
@@ -212,6 +220,27 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      */
     public String encoding;
 
+    /**
+     * The directory in which to cache the checksums of SQL migrations between runs. Cached checksums are reused as long
+     * as the size and last modification time of a migration are unchanged. (default: no cache)
+     * <p>Also configurable with Gradle or System Property: ${flyway.checksumCacheDirectory}</p>
+     */
+    public String checksumCacheDirectory;
+
+    /**
+     * The number of threads to use for resolving SQL migrations. With more than one thread, the migrations are read,
+     * checksummed and analysed in parallel. (default: 1)
+     * <p>Also configurable with Gradle or System Property: ${flyway.resolveThreads}</p>
+     */
+    public Integer resolveThreads;
+
+    /**
+     * The number of pending SQL migrations to prepare ahead on a background thread while the current migration is
+     * being applied. (default: 0)
+     * <p>Also configurable with Gradle or System Property: ${flyway.prepareAhead}</p>
+     */
+    public Integer prepareAhead;
+
     /**
      * Placeholders to replace in Sql migrations
      */
@@ -407,7 +436,6 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      * composed of multiple MB or even GB of reference data, as this dramatically reduces Flyway's memory consumption.
      * (default: {@code false}
      * <p>Also configurable with Gradle or System Property: ${flyway.stream}</p>
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      */
     public Boolean stream;
 
@@ -419,10 +447,64 @@ public abstract class AbstractFlywayTask extends DefaultTask {
      * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
      * (default: {@code false})
      * <p>Also configurable with Gradle or System Property: ${flyway.batch}</p>
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      */
     public Boolean batch;
 
+    /**
+     * The maximum number of statements to send to the database at once when batching SQL statements. (default: 100)
+     * <p>Also configurable with Gradle or System Property: ${flyway.batchSize}</p>
+     */
+    public Integer batchSize;
+
+    /**
+     * Whether to rewrite runs of INSERT statements with only literal values into the same table and columns into
+     * multi-row VALUES statements or a single batched prepared statement, depending on the database. (default: {@code false})
+     * <p>Also configurable with Gradle or System Property: ${flyway.rewriteInserts}</p>
+     */
+    public Boolean rewriteInserts;
+
+    /**
+     * Whether to reuse a single JDBC statement for all SQL statements of a migration executed one by one, instead of
+     * creating a new one for each of them. (default: {@code false})
+     * <p>Also configurable with Gradle or System Property: ${flyway.reuseStatements}</p>
+     */
+    public Boolean reuseStatements;
+
+    /**
+     * The maximum number of SQL statements to send to the database in a single round trip on SQL Server, MySQL (with
+     * allowMultiQueries=true) and PostgreSQL. 0 or 1 disables chunking. (default: 0)
+     * <p>Also configurable with Gradle or System Property: ${flyway.chunkSize}</p>
+     */
+    public Integer chunkSize;
+
+    /**
+     * The number of slowest SQL statements to report after migrating, with their migration, line, duration and update
+     * count. 0 disables the report. (default: 0)
+     * <p>Also configurable with Gradle or System Property: ${flyway.slowStatements}</p>
+     */
+    public Integer slowStatements;
+
+    /**
+     * The number of statements after which a non-transactional SQL migration commits and records a checkpoint, so
+     * that it can resume from there after a failure. 0 disables checkpoints. (default: 0)
+     * <p>Also configurable with Gradle or System Property: ${flyway.checkpointInterval}</p>
+     */
+    public Integer checkpointInterval;
+
+    /**
+     * The number of milliseconds each SQL statement of a migration may wait for a lock held by others before it gives
+     * up, or 0 to wait as long as the database does by default. (default: 0)
+     * <p>Also configurable with Gradle or System Property: ${flyway.lockTimeout}</p>
+     */
+    public Integer lockTimeout;
+
+    /**
+     * The number of times a SQL statement or migration which gave up waiting for a lock is retried, with an
+     * exponentially growing randomized delay. 0 disables retries. (default: 0)
+     * <p>Also configurable with Gradle or System Property: ${flyway.lockTimeoutRetries}</p>
+     */
+    public Integer lockTimeoutRetries;
+
     /**
      * Whether to Flyway's support for Oracle SQL*Plus commands should be activated.
      * (default: {@code false})
@@ -583,12 +665,16 @@ public abstract class AbstractFlywayTask extends DefaultTask {
         putIfSet(conf, ConfigUtils.SQL_MIGRATION_PREFIX, sqlMigrationPrefix, extension.sqlMigrationPrefix);
         putIfSet(conf, ConfigUtils.UNDO_SQL_MIGRATION_PREFIX, undoSqlMigrationPrefix, extension.undoSqlMigrationPrefix);
         putIfSet(conf, ConfigUtils.REPEATABLE_SQL_MIGRATION_PREFIX, repeatableSqlMigrationPrefix, extension.repeatableSqlMigrationPrefix);
+        putIfSet(conf, ConfigUtils.CSV_MIGRATION_PREFIX, csvMigrationPrefix, extension.csvMigrationPrefix);
         putIfSet(conf, ConfigUtils.SQL_MIGRATION_SEPARATOR, sqlMigrationSeparator, extension.sqlMigrationSeparator);
         putIfSet(conf, ConfigUtils.SQL_MIGRATION_SUFFIXES, StringUtils.arrayToCommaDelimitedString(sqlMigrationSuffixes), StringUtils.arrayToCommaDelimitedString(extension.sqlMigrationSuffixes));
         putIfSet(conf, ConfigUtils.MIXED, mixed, extension.mixed);
         putIfSet(conf, ConfigUtils.GROUP, group, extension.group);
         putIfSet(conf, ConfigUtils.INSTALLED_BY, installedBy, extension.installedBy);
         putIfSet(conf, ConfigUtils.ENCODING, encoding, extension.encoding);
+        putIfSet(conf, ConfigUtils.CHECKSUM_CACHE_DIRECTORY, checksumCacheDirectory, extension.checksumCacheDirectory);
+        putIfSet(conf, ConfigUtils.RESOLVE_THREADS, resolveThreads, extension.resolveThreads);
+        putIfSet(conf, ConfigUtils.PREPARE_AHEAD, prepareAhead, extension.prepareAhead);
         putIfSet(conf, ConfigUtils.PLACEHOLDER_REPLACEMENT, placeholderReplacement, extension.placeholderReplacement);
         putIfSet(conf, ConfigUtils.PLACEHOLDER_PREFIX, placeholderPrefix, extension.placeholderPrefix);
         putIfSet(conf, ConfigUtils.PLACEHOLDER_SUFFIX, placeholderSuffix, extension.placeholderSuffix);
@@ -614,6 +700,14 @@ public abstract class AbstractFlywayTask extends DefaultTask {
         putIfSet(conf, ConfigUtils.DRYRUN_OUTPUT, dryRunOutput, extension.dryRunOutput);
         putIfSet(conf, ConfigUtils.STREAM, stream, extension.stream);
         putIfSet(conf, ConfigUtils.BATCH, batch, extension.batch);
+        putIfSet(conf, ConfigUtils.BATCH_SIZE, batchSize, extension.batchSize);
+        putIfSet(conf, ConfigUtils.REWRITE_INSERTS, rewriteInserts, extension.rewriteInserts);
+        putIfSet(conf, ConfigUtils.REUSE_STATEMENTS, reuseStatements, extension.reuseStatements);
+        putIfSet(conf, ConfigUtils.CHUNK_SIZE, chunkSize, extension.chunkSize);
+        putIfSet(conf, ConfigUtils.SLOW_STATEMENTS, slowStatements, extension.slowStatements);
+        putIfSet(conf, ConfigUtils.CHECKPOINT_INTERVAL, checkpointInterval, extension.checkpointInterval);
+        putIfSet(conf, ConfigUtils.LOCK_TIMEOUT, lockTimeout, extension.lockTimeout);
+        putIfSet(conf, ConfigUtils.LOCK_TIMEOUT_RETRIES, lockTimeoutRetries, extension.lockTimeoutRetries);
 
         putIfSet(conf, ConfigUtils.ORACLE_SQLPLUS, oracleSqlplus, extension.oracleSqlplus);
         putIfSet(conf, ConfigUtils.ORACLE_SQLPLUS_WARN, oracleSqlplusWarn, extension.oracleSqlplusWarn);
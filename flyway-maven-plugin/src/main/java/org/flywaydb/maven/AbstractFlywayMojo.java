@@ -201,6 +201,30 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
     @Parameter(property = ConfigUtils.ENCODING)
     private String encoding;
 
+    /**
+     * The directory in which to cache the checksums of SQL migrations between runs. Cached checksums are reused as long
+     * as the size and last modification time of a migration are unchanged. (default: no cache)<br>
+     * <p>Also configurable with Maven or System Property: ${flyway.checksumCacheDirectory}</p>
+     */
+    @Parameter(property = ConfigUtils.CHECKSUM_CACHE_DIRECTORY)
+    private String checksumCacheDirectory;
+
+    /**
+     * The number of threads to use for resolving SQL migrations. With more than one thread, the migrations are read,
+     * checksummed and analysed in parallel. (default: 1)<br>
+     * <p>Also configurable with Maven or System Property: ${flyway.resolveThreads}</p>
+     */
+    @Parameter(property = ConfigUtils.RESOLVE_THREADS)
+    private Integer resolveThreads;
+
+    /**
+     * The number of pending SQL migrations to prepare ahead on a background thread while the current migration is
+     * being applied. (default: 0)<br>
+     * <p>Also configurable with Maven or System Property: ${flyway.prepareAhead}</p>
+     */
+    @Parameter(property = ConfigUtils.PREPARE_AHEAD)
+    private Integer prepareAhead;
+
     /**
      * The file name prefix for versioned SQL migrations (default: V)
      * <p>
@@ -232,6 +256,15 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
     @Parameter(property = ConfigUtils.REPEATABLE_SQL_MIGRATION_PREFIX)
     private String repeatableSqlMigrationPrefix;
 
+    /**
+     * The file name prefix for CSV migrations (default: D) <p>Also configurable with Maven or System Property:
+     * ${flyway.csvMigrationPrefix}</p>
+     * <p>CSV migrations have the following file name structure: prefixVERSIONseparatorDESCRIPTION.csv ,
+     * which using the defaults translates to D1_1__My_table.csv</p>
+     */
+    @Parameter(property = ConfigUtils.CSV_MIGRATION_PREFIX)
+    private String csvMigrationPrefix;
+
     /**
      * The file name separator for Sql migrations (default: __) <p>Also configurable with Maven or System Property:
      * ${flyway.sqlMigrationSeparator}</p>
@@ -480,7 +513,6 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
      * composed of multiple MB or even GB of reference data, as this dramatically reduces Flyway's memory consumption.
      * (default: {@code false}
      * <p>Also configurable with Maven or System Property: ${flyway.stream}</p>
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      */
     @Parameter(property = ConfigUtils.STREAM)
     private Boolean stream;
@@ -493,11 +525,73 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
      * DELETE, MERGE and UPSERT statements. All other statements are automatically executed without batching.
      * (default: {@code false})
      * <p>Also configurable with Maven or System Property: ${flyway.batch}</p>
-     * <p><i>Flyway Pro and Flyway Enterprise only</i></p>
      */
     @Parameter(property = ConfigUtils.BATCH)
     private Boolean batch;
 
+    /**
+     * The maximum number of statements to send to the database at once when batching SQL statements. (default: 100)
+     * <p>Also configurable with Maven or System Property: ${flyway.batchSize}</p>
+     */
+    @Parameter(property = ConfigUtils.BATCH_SIZE)
+    private Integer batchSize;
+
+    /**
+     * Whether to rewrite runs of INSERT statements with only literal values into the same table and columns into
+     * multi-row VALUES statements or a single batched prepared statement, depending on the database. (default: {@code false})
+     * <p>Also configurable with Maven or System Property: ${flyway.rewriteInserts}</p>
+     */
+    @Parameter(property = ConfigUtils.REWRITE_INSERTS)
+    private Boolean rewriteInserts;
+
+    /**
+     * Whether to reuse a single JDBC statement for all SQL statements of a migration executed one by one, instead of
+     * creating a new one for each of them. (default: {@code false})
+     * <p>Also configurable with Maven or System Property: ${flyway.reuseStatements}</p>
+     */
+    @Parameter(property = ConfigUtils.REUSE_STATEMENTS)
+    private Boolean reuseStatements;
+
+    /**
+     * The maximum number of SQL statements to send to the database in a single round trip on SQL Server, MySQL (with
+     * allowMultiQueries=true) and PostgreSQL. 0 or 1 disables chunking. (default: 0)
+     * <p>Also configurable with Maven or System Property: ${flyway.chunkSize}</p>
+     */
+    @Parameter(property = ConfigUtils.CHUNK_SIZE)
+    private Integer chunkSize;
+
+    /**
+     * The number of slowest SQL statements to report after migrating, with their migration, line, duration and update
+     * count. 0 disables the report. (default: 0)
+     * <p>Also configurable with Maven or System Property: ${flyway.slowStatements}</p>
+     */
+    @Parameter(property = ConfigUtils.SLOW_STATEMENTS)
+    private Integer slowStatements;
+
+    /**
+     * The number of statements after which a non-transactional SQL migration commits and records a checkpoint, so
+     * that it can resume from there after a failure. 0 disables checkpoints. (default: 0)
+     * <p>Also configurable with Maven or System Property: ${flyway.checkpointInterval}</p>
+     */
+    @Parameter(property = ConfigUtils.CHECKPOINT_INTERVAL)
+    private Integer checkpointInterval;
+
+    /**
+     * The number of milliseconds each SQL statement of a migration may wait for a lock held by others before it gives
+     * up, or 0 to wait as long as the database does by default. (default: 0)
+     * <p>Also configurable with Maven or System Property: ${flyway.lockTimeout}</p>
+     */
+    @Parameter(property = ConfigUtils.LOCK_TIMEOUT)
+    private Integer lockTimeout;
+
+    /**
+     * The number of times a SQL statement or migration which gave up waiting for a lock is retried, with an
+     * exponentially growing randomized delay. 0 disables retries. (default: 0)
+     * <p>Also configurable with Maven or System Property: ${flyway.lockTimeoutRetries}</p>
+     */
+    @Parameter(property = ConfigUtils.LOCK_TIMEOUT_RETRIES)
+    private Integer lockTimeoutRetries;
+
     /**
      * Whether to Flyway's support for Oracle SQL*Plus commands should be activated.
      * (default: {@code false})
@@ -677,9 +771,13 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
             putArrayIfSet(conf, ConfigUtils.CALLBACKS, callbacks);
             putIfSet(conf, ConfigUtils.SKIP_DEFAULT_CALLBACKS, skipDefaultCallbacks);
             putIfSet(conf, ConfigUtils.ENCODING, encoding);
+            putIfSet(conf, ConfigUtils.CHECKSUM_CACHE_DIRECTORY, checksumCacheDirectory);
+            putIfSet(conf, ConfigUtils.RESOLVE_THREADS, resolveThreads);
+            putIfSet(conf, ConfigUtils.PREPARE_AHEAD, prepareAhead);
             putIfSet(conf, ConfigUtils.SQL_MIGRATION_PREFIX, sqlMigrationPrefix);
             putIfSet(conf, ConfigUtils.UNDO_SQL_MIGRATION_PREFIX, undoSqlMigrationPrefix);
             putIfSet(conf, ConfigUtils.REPEATABLE_SQL_MIGRATION_PREFIX, repeatableSqlMigrationPrefix);
+            putIfSet(conf, ConfigUtils.CSV_MIGRATION_PREFIX, csvMigrationPrefix);
             putIfSet(conf, ConfigUtils.SQL_MIGRATION_SEPARATOR, sqlMigrationSeparator);
             putArrayIfSet(conf, ConfigUtils.SQL_MIGRATION_SUFFIXES, sqlMigrationSuffixes);
             putIfSet(conf, ConfigUtils.MIXED, mixed);
@@ -704,6 +802,14 @@ abstract class AbstractFlywayMojo extends AbstractMojo {
             putIfSet(conf, ConfigUtils.DRYRUN_OUTPUT, dryRunOutput);
             putIfSet(conf, ConfigUtils.STREAM, stream);
             putIfSet(conf, ConfigUtils.BATCH, batch);
+            putIfSet(conf, ConfigUtils.BATCH_SIZE, batchSize);
+            putIfSet(conf, ConfigUtils.REWRITE_INSERTS, rewriteInserts);
+            putIfSet(conf, ConfigUtils.REUSE_STATEMENTS, reuseStatements);
+            putIfSet(conf, ConfigUtils.CHUNK_SIZE, chunkSize);
+            putIfSet(conf, ConfigUtils.SLOW_STATEMENTS, slowStatements);
+            putIfSet(conf, ConfigUtils.CHECKPOINT_INTERVAL, checkpointInterval);
+            putIfSet(conf, ConfigUtils.LOCK_TIMEOUT, lockTimeout);
+            putIfSet(conf, ConfigUtils.LOCK_TIMEOUT_RETRIES, lockTimeoutRetries);
 
             putIfSet(conf, ConfigUtils.ORACLE_SQLPLUS, oracleSqlplus);
             putIfSet(conf, ConfigUtils.ORACLE_SQLPLUS_WARN, oracleSqlplusWarn);